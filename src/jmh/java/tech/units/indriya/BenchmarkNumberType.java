@@ -0,0 +1,80 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import tech.units.indriya.function.RationalNumber;
+
+/**
+ * Mirrors the number types supported by {@link tech.units.indriya.function.DefaultNumberSystem}, so
+ * benchmarks can be parameterized with {@code @Param} over each of them.
+ * <p>
+ * Integer-only types hold the sample value {@code 42}, all other types hold {@code 42.5}.
+ * 
+ * @since 2.2.5
+ */
+public enum BenchmarkNumberType {
+
+    // integer types
+    BYTE_BOXED(() -> (byte) 42),
+    SHORT_BOXED(() -> (short) 42),
+    INTEGER_BOXED(() -> 42),
+    INTEGER_ATOMIC(() -> new AtomicInteger(42)),
+    LONG_BOXED(() -> 42L),
+    LONG_ATOMIC(() -> new AtomicLong(42L)),
+    BIG_INTEGER(() -> BigInteger.valueOf(42)),
+
+    // rational types
+    RATIONAL(() -> RationalNumber.of(85, 2)),
+
+    // fractional types
+    FLOAT_BOXED(() -> 42.5f),
+    DOUBLE_BOXED(() -> 42.5d),
+    BIG_DECIMAL(() -> new BigDecimal("42.5")),
+    ;
+
+    private final Supplier<Number> sample;
+
+    private BenchmarkNumberType(Supplier<Number> sample) {
+        this.sample = sample;
+    }
+
+    /**
+     * @return a new instance of this type holding the sample value
+     */
+    public Number sample() {
+        return sample.get();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity.Scale;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Temperature;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.function.ConverterCache;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Measures throughput of {@link AbstractUnit#getConverterTo(javax.measure.Unit, Scale)} on units shared by all
+ * benchmark threads, with and without the {@link ConverterCache}.
+ * <p>
+ * Runs with all available cores by default; compare against a single thread ({@code -t 1}) to see how it scales.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ScaledConverterBenchmark {
+
+    @Param({ "ABSOLUTE", "RELATIVE" })
+    private Scale scale;
+
+    @Param({ "1024", "0" })
+    private int cacheSize;
+
+    private AbstractUnit<Temperature> celsius;
+    private AbstractUnit<Length> kilometre;
+
+    @Setup
+    public void setUp() {
+        ConverterCache.setMaximumSize(cacheSize);
+        celsius = (AbstractUnit<Temperature>) Units.CELSIUS;
+        kilometre = (AbstractUnit<Length>) MetricPrefix.KILO(Units.METRE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ConverterCache.setMaximumSize(ConverterCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Benchmark
+    public UnitConverter celsiusToKelvin() {
+        return celsius.getConverterTo(Units.KELVIN, scale);
+    }
+
+    @Benchmark
+    public double kilometreToMetre() {
+        return kilometre.getConverterTo(Units.METRE, scale).convert(1.5);
+    }
+}
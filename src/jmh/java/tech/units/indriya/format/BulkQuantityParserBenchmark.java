@@ -0,0 +1,106 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Benchmarks {@link BulkQuantityParser} against parsing the same lines one by one with
+ * {@link NumberDelimiterQuantityFormat#parse(CharSequence)}, converting every value to metres.
+ *
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkQuantityParserBenchmark {
+
+    private static final int LINES = 10_000;
+    private static final String[] UNITS = { "m", "km", "cm", "mm" };
+
+    private final NumberDelimiterQuantityFormat quantityFormat = NumberDelimiterQuantityFormat.getInstance();
+    private final BulkQuantityParser parser = new BulkQuantityParser.Builder().setTargetUnit(Units.METRE).build();
+
+    private String[] lines;
+    private ByteBuffer bytes;
+
+    @Setup
+    public void setUp() {
+        lines = new String[LINES];
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            lines[i] = (i * 0.25) + " " + UNITS[i % UNITS.length];
+            sb.append(lines[i]).append('\n');
+        }
+        bytes = ByteBuffer.allocateDirect(sb.length());
+        bytes.put(sb.toString().getBytes(StandardCharsets.US_ASCII)).flip();
+    }
+
+    @Benchmark
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public double quantityFormat() {
+        double sum = 0;
+        for (String line : lines) {
+            final Quantity quantity = quantityFormat.parse(line);
+            sum += quantity.to(Units.METRE).getValue().doubleValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double bulkParser() {
+        final double[] values = parser.parse(bytes.duplicate()).getValues();
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.BenchmarkNumberType;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Benchmarks {@link SimpleUnitFormat#parse(CharSequence)} and {@link NumberDelimiterQuantityFormat#parse(CharSequence)}.
+ * <p>
+ * Quantity input is produced by formatting a quantity holding each number type, so the parsed text reflects what
+ * {@link NumberDelimiterQuantityFormat#format(Quantity)} writes for that type.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    @Param({ "m", "km", "km/h", "kg*m/s²", "kW·h", "°C" })
+    private String unitText;
+
+    private final SimpleUnitFormat unitFormat = SimpleUnitFormat.getInstance();
+
+    /**
+     * Holds the formatted quantity per number type, used by {@link FormatBenchmark#parseQuantity(QuantityText)}.
+     */
+    @State(Scope.Benchmark)
+    public static class QuantityText {
+
+        @Param
+        private BenchmarkNumberType numberType;
+
+        private final NumberDelimiterQuantityFormat quantityFormat = NumberDelimiterQuantityFormat.getInstance();
+        private String text;
+
+        @Setup
+        public void setUp() {
+            text = quantityFormat.format(Quantities.getQuantity(numberType.sample(), Units.KILOMETRE_PER_HOUR));
+        }
+    }
+
+    @Benchmark
+    public Unit<?> parseUnit() {
+        return unitFormat.parse(unitText);
+    }
+
+    @Benchmark
+    public Quantity<?> parseQuantity(QuantityText quantity) {
+        return quantity.quantityFormat.parse(quantity.text);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.BenchmarkNumberType;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Benchmarks converter lookup via {@link tech.units.indriya.AbstractUnit#getConverterTo(Unit)} and value conversion
+ * via {@link AbstractConverter#convert(Number)} and {@link AbstractConverter#convert(double)}, as well as their
+ * {@link CompiledConverter compiled} counterparts.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    /**
+     * Representative conversions, from a single prefix to an affine temperature scale and a derived unit.
+     */
+    public enum Conversion {
+        KILOMETRE_TO_METRE(MetricPrefix.KILO(Units.METRE), Units.METRE),
+        CELSIUS_TO_KELVIN(Units.CELSIUS, Units.KELVIN),
+        MILLICELSIUS_TO_KELVIN(MetricPrefix.MILLI(Units.CELSIUS), Units.KELVIN),
+        KILOMETRE_PER_HOUR_TO_METRE_PER_SECOND(Units.KILOMETRE_PER_HOUR, Units.METRE_PER_SECOND),
+        KILOWATT_HOUR_TO_JOULE(MetricPrefix.KILO(Units.WATT).multiply(Units.HOUR), Units.JOULE),
+        KILOWATT_HOUR_PER_SQUARE_METRE_DAY_TO_WATT_PER_SQUARE_METRE(
+                MetricPrefix.KILO(Units.WATT).multiply(Units.HOUR).divide(Units.SQUARE_METRE.multiply(Units.DAY)),
+                Units.WATT.divide(Units.SQUARE_METRE)),
+        ;
+
+        private final Unit<?> source;
+        private final Unit<?> target;
+
+        private Conversion(Unit<?> source, Unit<?> target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        UnitConverter converter() {
+            return ((Unit) source).getConverterTo(target);
+        }
+    }
+
+    @Param
+    private Conversion conversion;
+
+    private UnitConverter converter;
+    private UnitConverter compiled;
+    private double doubleValue;
+
+    @Setup
+    public void setUp() {
+        converter = conversion.converter();
+        compiled = CompiledConverter.of(converter);
+        doubleValue = BenchmarkNumberType.DOUBLE_BOXED.sample().doubleValue();
+    }
+
+    /**
+     * Holds a sample value per number type, used by {@link ConverterBenchmark#convertNumber(Values)}.
+     */
+    @State(Scope.Benchmark)
+    public static class Values {
+
+        @Param
+        private BenchmarkNumberType numberType;
+
+        private Number value;
+
+        @Setup
+        public void setUp() {
+            value = numberType.sample();
+        }
+    }
+
+    @Benchmark
+    public UnitConverter getConverterTo() {
+        return conversion.converter();
+    }
+
+    @Benchmark
+    public Number convertNumber(Values values) {
+        return converter.convert(values.value);
+    }
+
+    @Benchmark
+    public double convertDouble() {
+        return converter.convert(doubleValue);
+    }
+
+    @Benchmark
+    public double convertCompiled() {
+        return compiled.convert(doubleValue);
+    }
+
+    @Benchmark
+    public Number convertNumberCompiled(Values values) {
+        return compiled.convert(values.value);
+    }
+}
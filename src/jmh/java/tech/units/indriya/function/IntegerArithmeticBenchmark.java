@@ -0,0 +1,110 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Dimensionless;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Benchmarks {@link DefaultNumberSystem} addition and multiplication of {@link Integer} and {@link Long} operands,
+ * as produced by counter-style quantities (event counts, bytes).
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntegerArithmeticBenchmark {
+
+    /**
+     * Magnitude of the left operand: {@code 1000} stays within the small result cache, {@code 1000000000}
+     * requires boxing, {@code 4611686018427387904} (2^62) overflows to {@link java.math.BigInteger} on multiplication.
+     */
+    @Param({ "1000", "1000000000", "4611686018427387904" })
+    private long magnitude;
+
+    private final DefaultNumberSystem ns = new DefaultNumberSystem();
+
+    private Number integerOperand;
+    private Number longOperand;
+    private Number increment;
+
+    private Quantity<Dimensionless> count;
+    private Quantity<Dimensionless> step;
+
+    @Setup
+    public void setUp() {
+        longOperand = Long.valueOf(magnitude);
+        integerOperand = magnitude <= Integer.MAX_VALUE ? Integer.valueOf((int) magnitude) : longOperand;
+        increment = Integer.valueOf(magnitude <= Integer.MAX_VALUE ? 24 : (int) (magnitude >>> 32));
+        count = Quantities.getQuantity(longOperand, AbstractUnit.ONE);
+        step = Quantities.getQuantity(increment, AbstractUnit.ONE);
+    }
+
+    @Benchmark
+    public Number addIntegers() {
+        return ns.add(integerOperand, increment);
+    }
+
+    @Benchmark
+    public Number addLongAndInteger() {
+        return ns.add(longOperand, increment);
+    }
+
+    @Benchmark
+    public Number multiplyLongAndInteger() {
+        return ns.multiply(longOperand, increment);
+    }
+
+    @Benchmark
+    public Quantity<Dimensionless> addCounts() {
+        return count.add(step);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.BenchmarkNumberType;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.spi.NumberSystem;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Compares {@link DefaultNumberSystem} against {@link DoubleNumberSystem}, both through direct
+ * {@link NumberSystem} calls and through quantity arithmetic with the system installed as
+ * {@link Calculus#currentNumberSystem()}.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberSystemBenchmark {
+
+    @Param({ "tech.units.indriya.function.DefaultNumberSystem", "tech.units.indriya.function.DoubleNumberSystem" })
+    private String numberSystem;
+
+    @Param({ "INTEGER_BOXED", "DOUBLE_BOXED", "RATIONAL", "BIG_DECIMAL" })
+    private BenchmarkNumberType numberType;
+
+    private NumberSystem previous;
+    private NumberSystem ns;
+    private Number x;
+    private Number y;
+
+    private Quantity<Length> metres;
+    private Quantity<Length> kilometres;
+
+    @Setup
+    public void setUp() {
+        previous = Calculus.currentNumberSystem();
+        ns = Calculus.getNumberSystem(numberSystem);
+        Calculus.setCurrentNumberSystem(ns);
+
+        x = numberType.sample();
+        y = numberType.sample();
+        metres = Quantities.getQuantity(numberType.sample(), Units.METRE);
+        kilometres = Quantities.getQuantity(numberType.sample(), MetricPrefix.KILO(Units.METRE));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Calculus.setCurrentNumberSystem(previous);
+    }
+
+    @Benchmark
+    public Number add() {
+        return ns.add(x, y);
+    }
+
+    @Benchmark
+    public Number multiply() {
+        return ns.multiply(x, y);
+    }
+
+    @Benchmark
+    public Number divide() {
+        return ns.divide(x, y);
+    }
+
+    @Benchmark
+    public Number narrow() {
+        return ns.narrow(x);
+    }
+
+    @Benchmark
+    public int compare() {
+        return ns.compare(x, y);
+    }
+
+    @Benchmark
+    public Quantity<Length> quantityAddMixedUnits() {
+        return metres.add(kilometres);
+    }
+
+    @Benchmark
+    public Quantity<?> quantityDivide() {
+        return metres.divide(kilometres);
+    }
+
+    @Benchmark
+    public Quantity<Length> quantityTo() {
+        return kilometres.to(Units.METRE);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the per-type dispatch of {@link DefaultNumberSystem} unary operations and comparison
+ * over a mixed workload of {@link Integer}, {@link Double} and {@link RationalNumber} operands, which keeps
+ * the call sites megamorphic.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberTypeDispatchBenchmark {
+
+    private static final int SIZE = 48;
+
+    private final DefaultNumberSystem ns = new DefaultNumberSystem();
+    private final Number[] numbers = new Number[SIZE];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SIZE; i++) {
+            switch (i % 3) {
+            case 0:
+                numbers[i] = i - SIZE / 2;
+                break;
+            case 1:
+                numbers[i] = (i - SIZE / 2) + 0.5;
+                break;
+            default:
+                numbers[i] = RationalNumber.of(i - SIZE / 2, 7);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void signum(Blackhole blackhole) {
+        for (Number number : numbers) {
+            blackhole.consume(ns.signum(number));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void abs(Blackhole blackhole) {
+        for (Number number : numbers) {
+            blackhole.consume(ns.abs(number));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void negate(Blackhole blackhole) {
+        for (Number number : numbers) {
+            blackhole.consume(ns.negate(number));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void narrow(Blackhole blackhole) {
+        for (Number number : numbers) {
+            blackhole.consume(ns.narrow(number));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compare(Blackhole blackhole) {
+        for (int i = 1; i < SIZE; i++) {
+            blackhole.consume(ns.compare(numbers[i - 1], numbers[i]));
+        }
+        blackhole.consume(ns.compare(numbers[SIZE - 1], numbers[0]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isZero(Blackhole blackhole) {
+        for (Number number : numbers) {
+            blackhole.consume(ns.isZero(number));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.measure.MetricPrefix;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Compares {@link AbstractConverter#convert(double)} with the boxed {@link AbstractConverter#convert(Number)} path for
+ * each concrete converter type, as well as the bulk {@link AbstractConverter#convert(double[], double[])} with a loop
+ * over single values. Run with {@code -prof gc} to verify that the primitive paths do not allocate.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveConverterBenchmark {
+
+    public enum ConverterType {
+        RATIONAL(() -> RationalConverter.of(5, 18)),
+        DOUBLE_MULTIPLY(() -> DoubleMultiplyConverter.of(0.3048)),
+        POWER_OF_INT(() -> PowerOfIntConverter.of(10, -3)),
+        POWER_OF_PI(() -> PowerOfPiConverter.of(2)),
+        ADD(() -> new AddConverter(273.15)),
+        LOG(() -> new LogConverter(10)),
+        EXP(() -> new ExpConverter(10)),
+        PAIR(() -> (AbstractConverter) MetricPrefix.MILLI(Units.CELSIUS).getConverterTo(Units.KELVIN)),
+        ;
+
+        private final Supplier<AbstractConverter> factory;
+
+        private ConverterType(Supplier<AbstractConverter> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private ConverterType converterType;
+
+    private static final int ARRAY_SIZE = 1024;
+
+    private AbstractConverter converter;
+    private double value;
+    private final double[] src = new double[ARRAY_SIZE];
+    private final double[] dst = new double[ARRAY_SIZE];
+
+    @Setup
+    public void setUp() {
+        converter = converterType.factory.get();
+        value = 2.5;
+        for (int i = 0; i < ARRAY_SIZE; i++) {
+            src[i] = 1 + (i % 32) * 0.25; // small enough for EXP not to overflow
+        }
+    }
+
+    @Benchmark
+    public double convertDouble() {
+        return converter.convert(value);
+    }
+
+    @Benchmark
+    public double convertBoxed() {
+        return converter.convert((Number) value).doubleValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARRAY_SIZE)
+    public double[] convertArray() {
+        converter.convert(src, dst);
+        return dst;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARRAY_SIZE)
+    public double[] convertArrayLoop() {
+        for (int i = 0; i < ARRAY_SIZE; i++) {
+            dst[i] = converter.convert(src[i]);
+        }
+        return dst;
+    }
+}
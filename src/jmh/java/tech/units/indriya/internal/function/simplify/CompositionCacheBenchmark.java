@@ -0,0 +1,130 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function.simplify;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MICRO;
+import static javax.measure.MetricPrefix.MILLI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.UnitConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.unit.ProductUnit;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Measures composing the system converters of deep {@link ProductUnit product units}, with and without the
+ * {@link CompositionCache}.
+ * <p>
+ * {@link #foldSystemConverter()} concatenates the system converters of all elements the way a product unit builds its
+ * own system converter, {@link #composeSystemConverters()} composes the system converters of two deep product units
+ * the way a converter between them is built.
+ * </p>
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompositionCacheBenchmark {
+
+    @Param({ "1024", "0" })
+    private int cacheSize;
+
+    private UnitConverter[] elementConverters;
+    private UnitConverter sourceConverter;
+    private UnitConverter targetInverse;
+
+    @Setup
+    public void setUp() {
+        CompositionCache.setMaximumSize(cacheSize);
+        final ProductUnit<?> source = (ProductUnit<?>) KILO(Units.METRE).multiply(MILLI(Units.GRAM))
+                .multiply(Units.HOUR).divide(Units.MINUTE.pow(2)).multiply(Units.LITRE).divide(MICRO(Units.AMPERE))
+                .multiply(Units.KILOMETRE_PER_HOUR);
+        final ProductUnit<?> target = (ProductUnit<?>) MILLI(Units.METRE).multiply(KILO(Units.GRAM))
+                .multiply(Units.DAY).divide(Units.HOUR.pow(2)).multiply(MILLI(Units.LITRE)).divide(KILO(Units.AMPERE))
+                .multiply(Units.METRE_PER_SECOND);
+        final List<UnitConverter> steps = new ArrayList<>();
+        for (int i = 0; i < source.getUnitCount(); i++) {
+            UnitConverter converter = ((AbstractUnit<?>) source.getUnit(i)).getSystemConverter();
+            int pow = source.getUnitPow(i);
+            if (pow < 0) {
+                pow = -pow;
+                converter = converter.inverse();
+            }
+            for (int j = 0; j < pow; j++) {
+                steps.add(converter);
+            }
+        }
+        elementConverters = steps.toArray(new UnitConverter[0]);
+        sourceConverter = source.getSystemConverter();
+        targetInverse = target.getSystemConverter().inverse();
+    }
+
+    @TearDown
+    public void tearDown() {
+        CompositionCache.setMaximumSize(CompositionCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Benchmark
+    public UnitConverter foldSystemConverter() {
+        UnitConverter converter = AbstractConverter.IDENTITY;
+        for (UnitConverter step : elementConverters) {
+            converter = converter.concatenate(step);
+        }
+        return converter;
+    }
+
+    @Benchmark
+    public UnitConverter composeSystemConverters() {
+        return targetInverse.concatenate(sourceConverter);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Temperature;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Measures {@link QuantityRange#contains(Quantity)}, {@link QuantityRange#contains(double, Unit)} and
+ * {@link QuantityRange#contains(double[], Unit, BitSet)} for readings in the unit of the range and in another unit.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantityRangeBenchmark {
+
+    /**
+     * The unit readings are stated in, the range itself is in degrees Celsius.
+     */
+    public enum ReadingUnit {
+        CELSIUS(Units.CELSIUS), MILLICELSIUS(MetricPrefix.MILLI(Units.CELSIUS)), KELVIN(Units.KELVIN);
+
+        private final Unit<Temperature> unit;
+
+        private ReadingUnit(Unit<Temperature> unit) {
+            this.unit = unit;
+        }
+    }
+
+    @Param
+    private ReadingUnit readingUnit;
+
+    private QuantityRange<Temperature> range;
+    private Quantity<Temperature> reading;
+    private double value;
+    private double[] values;
+    private BitSet out;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        range = QuantityRange.of(Quantities.getQuantity(-10, Units.CELSIUS), Quantities.getQuantity(40, Units.CELSIUS));
+        reading = Quantities.getQuantity(21.5, Units.CELSIUS).to(readingUnit.unit);
+        value = reading.getValue().doubleValue();
+        final Random random = new Random(42);
+        values = new double[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Quantities.getQuantity(random.nextDouble() * 80 - 20, Units.CELSIUS).to(readingUnit.unit)
+                    .getValue().doubleValue();
+        }
+        out = new BitSet(values.length);
+    }
+
+    @Benchmark
+    public boolean containsQuantity() {
+        return range.contains(reading);
+    }
+
+    @Benchmark
+    public boolean containsValue() {
+        return range.contains(value, readingUnit.unit);
+    }
+
+    @Benchmark
+    public BitSet containsValues() {
+        range.contains(values, readingUnit.unit, out);
+        return out;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Temperature;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Compares finding the ranges containing a reading with a {@link QuantityRangeIndex} against checking
+ * {@link QuantityRange#contains(Quantity)} for each range, for narrow ranges in mixed units.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantityRangeIndexBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    private int rangeCount;
+
+    private List<QuantityRange<Temperature>> ranges;
+    private QuantityRangeIndex<Temperature> index;
+    private Quantity<Temperature> reading;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final List<Unit<Temperature>> units = new ArrayList<>();
+        units.add(Units.CELSIUS);
+        units.add(Units.KELVIN);
+        units.add(MetricPrefix.MILLI(Units.CELSIUS));
+        ranges = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            final Unit<Temperature> unit = units.get(i % units.size());
+            final double minimum = random.nextDouble() * 1000;
+            final double maximum = minimum + random.nextDouble() * 10;
+            ranges.add(QuantityRange.of(Quantities.getQuantity(minimum, Units.CELSIUS).to(unit),
+                    Quantities.getQuantity(maximum, Units.CELSIUS).to(unit)));
+        }
+        index = new QuantityRangeIndex<>(ranges);
+        reading = Quantities.getQuantity(500.5, Units.CELSIUS);
+    }
+
+    @Benchmark
+    public List<QuantityRange<Temperature>> findContaining() {
+        return index.findContaining(reading);
+    }
+
+    @Benchmark
+    public List<QuantityRange<Temperature>> loopContains() {
+        final List<QuantityRange<Temperature>> result = new ArrayList<>();
+        for (QuantityRange<Temperature> range : ranges) {
+            if (range.contains(reading)) {
+                result.add(range);
+            }
+        }
+        return result;
+    }
+}
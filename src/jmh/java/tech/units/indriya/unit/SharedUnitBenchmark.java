@@ -0,0 +1,102 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.unit;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.function.RationalNumber;
+
+/**
+ * Measures throughput of lazily memoized values read from instances shared by all benchmark threads,
+ * namely {@link ProductUnit#hashCode()} (also via {@link HashMap} lookup) and {@link RationalNumber#bigDecimalValue()}.
+ * <p>
+ * Runs with all available cores by default; compare against a single thread ({@code -t 1}) to see how it scales.
+ * 
+ * @since 2.2.5
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class SharedUnitBenchmark {
+
+    private Unit<?> productUnit;
+    private Map<Unit<?>, String> unitNames;
+    private RationalNumber rational;
+
+    @Setup
+    public void setUp() {
+        productUnit = Units.METRE.multiply(Units.KILOGRAM).divide(Units.SECOND.pow(2));
+        unitNames = new HashMap<>();
+        unitNames.put(productUnit, "kg·m/s²");
+        unitNames.put(Units.METRE.divide(Units.SECOND), "m/s");
+        rational = RationalNumber.of(1, 3);
+    }
+
+    @Benchmark
+    public int productUnitHashCode() {
+        return productUnit.hashCode();
+    }
+
+    @Benchmark
+    public String productUnitMapLookup() {
+        return unitNames.get(productUnit);
+    }
+
+    @Benchmark
+    public BigDecimal rationalBigDecimalValue() {
+        return rational.bigDecimalValue();
+    }
+
+    @Benchmark
+    public double rationalDoubleValue() {
+        return rational.doubleValue();
+    }
+}
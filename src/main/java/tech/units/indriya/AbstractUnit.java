@@ -37,6 +37,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.measure.Dimension;
 import javax.measure.IncommensurableException;
@@ -57,6 +58,7 @@ import tech.units.indriya.format.SimpleUnitFormat;
 import tech.units.indriya.function.AbstractConverter;
 import tech.units.indriya.function.AddConverter;
 import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.ConverterCache;
 import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.function.RationalNumber;
 import tech.units.indriya.internal.function.Calculator;
@@ -90,7 +92,7 @@ import tech.uom.lib.common.function.SymbolSupplier;
  *      International System of Units</a>
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 4.3, May 1, 2025
+ * @version 4.6, October 17, 2026
  * @since 1.0
  */
 public abstract class AbstractUnit<Q extends Quantity<Q>>
@@ -123,10 +125,16 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	private String symbol;
 	
     /**
-     * Holds the measurement scale
+     * Holds the measurement scale used by {@link #getConverterTo(Unit)} and {@link #getSystemConverter()}.
+     * Never modified by conversions in a given scale, see {@link #getConverterTo(Unit, Scale)}.
      */
 	protected Scale scale = ABSOLUTE;
 
+	/**
+	 * Holds the system unit returned by {@link #toSystemUnit()}, computed once as units are immutable.
+	 */
+	private transient volatile Unit<Q> systemUnit;
+
 	/**
 	 * Holds the unique symbols collection (base units or alternate units).
 	 */
@@ -178,6 +186,23 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	 * @see #toSystemUnit
 	 */
 	public abstract UnitConverter getSystemConverter();
+
+	/**
+	 * Returns the converter from this unit to its unscaled {@link #toSystemUnit
+	 * System Unit} unit in the given measurement {@code scale}.
+	 * <p>
+	 * The default implementation does not depend on the scale and returns {@link #getSystemConverter()}; units
+	 * whose system converter depends on the scale (such as {@link ProductUnit}) override this method.
+	 *
+	 * @param scale the measurement scale.
+	 * @return the converter from this unit to its system unit in the given {@code scale}.
+	 * @see #getConverterTo(Unit, Scale)
+	 * @since 2.2.5
+	 */
+	@API(status=EXPERIMENTAL)
+	protected UnitConverter getSystemConverter(Scale scale) {
+		return getSystemConverter();
+	}
 	
 	/**
 	 * Returns the unscaled {@link SI} unit from which this unit is derived.
@@ -260,7 +285,13 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	 */
 	@Override
 	public final Unit<Q> getSystemUnit() {
-		return toSystemUnit();
+		Unit<Q> result = systemUnit;
+		if (result == null) {
+			// racy but idempotent, concurrent callers compute equal units
+			result = toSystemUnit();
+			systemUnit = result;
+		}
+		return result;
 	}
 
 	/**
@@ -324,7 +355,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 
 	@Override
 	public final UnitConverter getConverterTo(Unit<Q> that) throws UnconvertibleException {
-		return internalGetConverterTo(that, true);
+		return internalGetConverterTo(that, true, scale);
 	}
 
 	@Override
@@ -370,8 +401,8 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
      */
 	@API(status=EXPERIMENTAL)
 	public final UnitConverter getConverterTo(Unit<Q> that, Scale scale) throws UnconvertibleException {
-		this.scale = scale;
-		return getConverterTo(that);
+		// the scale is passed on, rather than stored in this (potentially shared) unit
+		return internalGetConverterTo(that, true, Objects.requireNonNull(scale));
 	}
 	
 	/**
@@ -398,19 +429,23 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	@API(status=EXPERIMENTAL)
 	@SuppressWarnings("rawtypes")
 	public final UnitConverter getConverterToAny(Unit<?> that, Scale scale) throws IncommensurableException, UnconvertibleException {
+		Objects.requireNonNull(scale);
 		if (!isCompatible(that))
 			throw new IncommensurableException(this + " is not compatible with " + that);
-		this.scale = scale;
 		final AbstractUnit thatAbstr = (AbstractUnit) that; // Since both units are
 		// compatible they must both be abstract units.
+		final UnitConverter cached = ConverterCache.get(this, that, scale, thatAbstr.scale, true);
+		if (cached != null)
+			return cached;
 		final DimensionalModel model = DimensionalModel.current();
 		Unit thisSystemUnit = this.getSystemUnit();
 		UnitConverter thisToDimension = model.getDimensionalTransform(thisSystemUnit.getDimension())
-				.concatenate(this.getSystemConverter());
+				.concatenate(this.getSystemConverter(scale));
 		Unit thatSystemUnit = thatAbstr.getSystemUnit();
 		UnitConverter thatToDimension = model.getDimensionalTransform(thatSystemUnit.getDimension())
 				.concatenate(thatAbstr.getSystemConverter());
-		return thatToDimension.inverse().concatenate(thisToDimension);
+		return ConverterCache.put(this, that, scale, thatAbstr.scale, true,
+				thatToDimension.inverse().concatenate(thisToDimension));
 	}
 
 	@Override
@@ -485,6 +520,11 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 
 	protected final UnitConverter internalGetConverterTo(Unit<Q> that, boolean useEquals)
 			throws UnconvertibleException {
+		return internalGetConverterTo(that, useEquals, scale);
+	}
+
+	private UnitConverter internalGetConverterTo(Unit<Q> that, boolean useEquals, Scale scale)
+			throws UnconvertibleException {
 		if (useEquals) {
 			if (this == that || this.equals(that))
 				return AbstractConverter.IDENTITY;
@@ -492,17 +532,21 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 			if (this == that)
 				return AbstractConverter.IDENTITY;
 		}
+		final Scale thatScale = that instanceof AbstractUnit ? ((AbstractUnit<Q>) that).scale : ABSOLUTE;
+		final UnitConverter cached = ConverterCache.get(this, that, scale, thatScale, false);
+		if (cached != null)
+			return cached;
 		Unit<Q> thisSystemUnit = this.getSystemUnit();
 		Unit<Q> thatSystemUnit = that.getSystemUnit();
 		if (!thisSystemUnit.equals(thatSystemUnit))
 			try {
-				return getConverterToAny(that);
+				return ConverterCache.put(this, that, scale, thatScale, false, getConverterToAny(that, scale));
 			} catch (IncommensurableException e) {
 				throw new UnconvertibleException(e);
 			}
-		UnitConverter thisToSI = this.getSystemConverter();
+		UnitConverter thisToSI = this.getSystemConverter(scale);
 		UnitConverter thatToSI = that.getConverterTo(thatSystemUnit);
-		return thatToSI.inverse().concatenate(thisToSI);
+		return ConverterCache.put(this, that, scale, thatScale, false, thatToSI.inverse().concatenate(thisToSI));
 	}
 
 	/**
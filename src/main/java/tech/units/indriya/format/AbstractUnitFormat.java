@@ -90,6 +90,18 @@ public abstract class AbstractUnitFormat implements UnitFormat {
    *              if the Format cannot format the given object
    */
   public final String format(Unit<?> unit) {
+    return formatToString(unit);
+  }
+
+  /**
+   * Formats the specified unit to a string, called by {@link #format(Unit)}. Formats within this package may override it
+   * to return a cached string.
+   *
+   * @param unit
+   *          the unit to format.
+   * @return Formatted string.
+   */
+  String formatToString(Unit<?> unit) {
     if (unit instanceof AbstractUnit) {
       return format((AbstractUnit<?>) unit, new StringBuilder()).toString();
     }
@@ -0,0 +1,765 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.format.UnitFormat;
+
+import org.apiguardian.api.API;
+
+/**
+ * Parses large amounts of quantities, one per line or one per line in a given column of delimiter separated text (such
+ * as CSV), into primitive {@code double} values without creating a {@link javax.measure.Quantity Quantity} per row.
+ * <p>
+ * Each quantity is read the way the {@link NumberDelimiterQuantityFormat} it is built from reads it: a number, the
+ * format's delimiter and a unit, which ends at the next delimiter. Input is consumed in chunks from a {@link Reader}, a {@link CharBuffer} or a
+ * {@link ByteBuffer} of UTF-8 (e.g. a memory-mapped file), so it never needs to fit into memory as a whole.
+ * </p>
+ * <p>
+ * Every distinct unit string is parsed once by the format's {@link UnitFormat} and then looked up by its characters.
+ * Units parsed so far form the {@link #getUnits() unit dictionary}, which is kept across calls of the same parser. If a
+ * {@link Builder#setTargetUnit(Unit) target unit} is set, values are converted on the fly with one converter resolved
+ * per dictionary entry.
+ * </p>
+ * <p>
+ * Blank lines are skipped. A line whose quantity field is blank yields {@code NaN} without unit, so that values stay
+ * aligned with rows. Column values are not unquoted. Mixed radix quantities are not supported.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, use one parser per thread.
+ * </p>
+ *
+ * <pre>
+ * BulkQuantityParser parser = new BulkQuantityParser.Builder().setColumn(',', 2).setHeaderLines(1)
+ *         .setTargetUnit(Units.JOULE).build();
+ * BulkQuantityParser.Values values = parser.parse(reader);
+ * </pre>
+ *
+ * @version 1.1, October 17, 2026
+ * @since 2.2.5
+ */
+@API(status = EXPERIMENTAL)
+public final class BulkQuantityParser {
+
+    /**
+     * Receives the quantities read by {@link BulkQuantityParser}, one call per non-blank line.
+     */
+    @FunctionalInterface
+    public interface QuantityConsumer {
+
+        /**
+         * Accepts a quantity.
+         *
+         * @param value
+         *          the value, converted to the target unit if there is one, {@code NaN} for a blank field.
+         * @param unit
+         *          the target unit if there is one, otherwise the parsed unit, {@code null} for a blank field.
+         */
+        void accept(double value, Unit<?> unit);
+    }
+
+    /**
+     * The values read by {@link BulkQuantityParser}, together with the index of each value's parsed unit in
+     * {@link #getUnits()}.
+     */
+    public static final class Values {
+
+        private final double[] values;
+        private final int[] unitIndices;
+        private final List<Unit<?>> units;
+        private final Unit<?> targetUnit;
+
+        private Values(double[] values, int[] unitIndices, List<Unit<?>> units, Unit<?> targetUnit) {
+            this.values = values;
+            this.unitIndices = unitIndices;
+            this.units = units;
+            this.targetUnit = targetUnit;
+        }
+
+        /**
+         * Returns the number of values read.
+         *
+         * @return the number of values.
+         */
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * Returns the values, in the target unit if there is one, {@code NaN} for blank fields.
+         *
+         * @return the values, not copied.
+         */
+        public double[] getValues() {
+            return values;
+        }
+
+        /**
+         * Returns, per value, the index of its parsed unit in {@link #getUnits()}, {@code -1} for blank fields.
+         *
+         * @return the unit indices, not copied.
+         */
+        public int[] getUnitIndices() {
+            return unitIndices;
+        }
+
+        /**
+         * Returns the unit dictionary of the parser at the time these values were read.
+         *
+         * @return the distinct units parsed.
+         */
+        public List<Unit<?>> getUnits() {
+            return units;
+        }
+
+        /**
+         * Returns the unit the values are expressed in.
+         *
+         * @return the target unit, or {@code null} if values are expressed in their {@link #getUnit(int) parsed unit}.
+         */
+        public Unit<?> getTargetUnit() {
+            return targetUnit;
+        }
+
+        /**
+         * Returns the parsed unit of a value.
+         *
+         * @param index
+         *          the index of the value.
+         * @return the parsed unit, {@code null} for a blank field.
+         */
+        public Unit<?> getUnit(int index) {
+            final int unitIndex = unitIndices[index];
+            return unitIndex < 0 ? null : units.get(unitIndex);
+        }
+    }
+
+    /**
+     * A fluent Builder to create new instances of <code>BulkQuantityParser</code>.
+     */
+    public static class Builder {
+
+        private NumberDelimiterQuantityFormat quantityFormat = NumberDelimiterQuantityFormat.getInstance();
+        private Unit<?> targetUnit;
+        private char columnSeparator;
+        private int column = -1;
+        private int headerLines;
+
+        /**
+         * Sets the format quantities are read with, {@link NumberDelimiterQuantityFormat#getInstance()} by default.
+         *
+         * @param quantityFormat
+         *          the format, without mixed radix delimiter.
+         * @throws NullPointerException
+         *           if {@code quantityFormat} is {@code null}
+         * @throws IllegalArgumentException
+         *           if {@code quantityFormat} reads mixed radix quantities
+         * @return this {@code BulkQuantityParser.Builder}
+         */
+        public Builder setQuantityFormat(NumberDelimiterQuantityFormat quantityFormat) {
+            Objects.requireNonNull(quantityFormat);
+            if (quantityFormat.getMixDelimiter() != null) {
+                throw new IllegalArgumentException("Mixed radix quantities are not supported");
+            }
+            this.quantityFormat = quantityFormat;
+            return this;
+        }
+
+        /**
+         * Sets the unit all values are converted to, by default values are kept in their parsed unit.
+         *
+         * @param targetUnit
+         *          the target unit, or {@code null} to keep values in their parsed unit.
+         * @return this {@code BulkQuantityParser.Builder}
+         */
+        public Builder setTargetUnit(Unit<?> targetUnit) {
+            this.targetUnit = targetUnit;
+            return this;
+        }
+
+        /**
+         * Reads quantities from a column of separated text rather than from whole lines.
+         *
+         * @param separator
+         *          the column separator, such as {@code ','} or {@code '\t'}.
+         * @param index
+         *          the zero-based index of the column holding the quantities.
+         * @throws IllegalArgumentException
+         *           if {@code index} is negative, or {@code separator} is a line terminator
+         * @return this {@code BulkQuantityParser.Builder}
+         */
+        public Builder setColumn(char separator, int index) {
+            if (index < 0) {
+                throw new IllegalArgumentException("Column index must not be negative");
+            }
+            if (separator == '\n' || separator == '\r') {
+                throw new IllegalArgumentException("Column separator must not be a line terminator");
+            }
+            this.columnSeparator = separator;
+            this.column = index;
+            return this;
+        }
+
+        /**
+         * Sets the number of leading lines to skip, such as a CSV header.
+         *
+         * @param headerLines
+         *          the number of lines to skip, {@code 0} by default.
+         * @throws IllegalArgumentException
+         *           if {@code headerLines} is negative
+         * @return this {@code BulkQuantityParser.Builder}
+         */
+        public Builder setHeaderLines(int headerLines) {
+            if (headerLines < 0) {
+                throw new IllegalArgumentException("Header lines must not be negative");
+            }
+            this.headerLines = headerLines;
+            return this;
+        }
+
+        public BulkQuantityParser build() {
+            return new BulkQuantityParser(this);
+        }
+    }
+
+    /**
+     * Number of chars read at once.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Minimum free space required to read the next chunk, enough to decode any UTF-8 sequence.
+     */
+    private static final int MIN_READ = 64;
+
+    private final NumberFormat numberFormat;
+    private final UnitFormat unitFormat;
+    private final String delimiter;
+    private final boolean asciiDecimal;
+    private final Unit<?> targetUnit;
+    private final char columnSeparator;
+    private final int column;
+    private final int headerLines;
+
+    // Unit dictionary, an open addressing table from unit strings to indices into units
+    private char[][] keys = new char[16][];
+    private int[] keyIndices = new int[16];
+    private int keyCount;
+    private final List<Unit<?>> units = new ArrayList<>();
+    private final Map<Unit<?>, Integer> unitIndices = new HashMap<>();
+    private UnitConverter[] converters = new UnitConverter[16];
+
+    // Scanning state, reused for all rows
+    private char[] buffer = new char[CHUNK_SIZE];
+    private final Field field = new Field();
+    private final ParsePosition cursor = new ParsePosition(0);
+    private final CommonFormatter.AsciiDecimal decimal = new CommonFormatter.AsciiDecimal();
+    private CharsetDecoder decoder;
+
+    private BulkQuantityParser(Builder builder) {
+        this.numberFormat = builder.quantityFormat.getNumberFormat();
+        this.unitFormat = builder.quantityFormat.getUnitFormat();
+        this.delimiter = builder.quantityFormat.getDelimiter();
+        this.asciiDecimal = builder.quantityFormat.isAsciiDecimal();
+        this.targetUnit = builder.targetUnit;
+        this.columnSeparator = builder.columnSeparator;
+        this.column = builder.column;
+        this.headerLines = builder.headerLines;
+    }
+
+    /**
+     * Returns the unit values are converted to.
+     *
+     * @return the target unit, or {@code null} if values are kept in their parsed unit.
+     */
+    public Unit<?> getTargetUnit() {
+        return targetUnit;
+    }
+
+    /**
+     * Returns the unit dictionary, the distinct units parsed so far in the order they were first encountered.
+     *
+     * @return an unmodifiable snapshot of the units parsed.
+     */
+    public List<Unit<?>> getUnits() {
+        return Collections.unmodifiableList(new ArrayList<>(units));
+    }
+
+    /**
+     * Reads all quantities from a reader, until its end.
+     *
+     * @param reader
+     *          the input, not closed by this method.
+     * @return the values read.
+     * @throws IOException
+     *           if reading fails
+     * @throws MeasurementParseException
+     *           if a quantity cannot be parsed
+     * @throws javax.measure.UnconvertibleException
+     *           if a parsed unit is not convertible to the target unit
+     */
+    public Values parse(Reader reader) throws IOException {
+        final ValuesSink sink = new ValuesSink();
+        scan(reader::read, sink);
+        return sink.toValues();
+    }
+
+    /**
+     * Reads all quantities from a reader, until its end, passing them to a consumer.
+     *
+     * @param reader
+     *          the input, not closed by this method.
+     * @param consumer
+     *          the consumer of the quantities read.
+     * @throws IOException
+     *           if reading fails
+     * @throws MeasurementParseException
+     *           if a quantity cannot be parsed
+     * @throws javax.measure.UnconvertibleException
+     *           if a parsed unit is not convertible to the target unit
+     */
+    public void parse(Reader reader, QuantityConsumer consumer) throws IOException {
+        scan(reader::read, toSink(consumer));
+    }
+
+    /**
+     * Reads all quantities remaining in a char buffer, moving its position to its limit.
+     *
+     * @param chars
+     *          the input.
+     * @return the values read.
+     * @throws MeasurementParseException
+     *           if a quantity cannot be parsed
+     * @throws javax.measure.UnconvertibleException
+     *           if a parsed unit is not convertible to the target unit
+     */
+    public Values parse(CharBuffer chars) {
+        final ValuesSink sink = new ValuesSink();
+        scanUnchecked(charSource(chars), sink);
+        return sink.toValues();
+    }
+
+    /**
+     * Reads all quantities remaining in a char buffer, moving its position to its limit, passing them to a consumer.
+     *
+     * @param chars
+     *          the input.
+     * @param consumer
+     *          the consumer of the quantities read.
+     * @throws MeasurementParseException
+     *           if a quantity cannot be parsed
+     * @throws javax.measure.UnconvertibleException
+     *           if a parsed unit is not convertible to the target unit
+     */
+    public void parse(CharBuffer chars, QuantityConsumer consumer) {
+        scanUnchecked(charSource(chars), toSink(consumer));
+    }
+
+    /**
+     * Reads all quantities remaining in a buffer of UTF-8 bytes (or ASCII, its subset), moving its position to its
+     * limit. ASCII bytes are read directly, other bytes are decoded.
+     *
+     * @param bytes
+     *          the input, such as a memory-mapped file.
+     * @return the values read.
+     * @throws MeasurementParseException
+     *           if a quantity cannot be parsed, or the input is not valid UTF-8
+     * @throws javax.measure.UnconvertibleException
+     *           if a parsed unit is not convertible to the target unit
+     */
+    public Values parse(ByteBuffer bytes) {
+        final ValuesSink sink = new ValuesSink();
+        scanUnchecked(byteSource(bytes), sink);
+        return sink.toValues();
+    }
+
+    /**
+     * Reads all quantities remaining in a buffer of UTF-8 bytes (or ASCII, its subset), moving its position to its
+     * limit, passing them to a consumer. ASCII bytes are read directly, other bytes are decoded.
+     *
+     * @param bytes
+     *          the input, such as a memory-mapped file.
+     * @param consumer
+     *          the consumer of the quantities read.
+     * @throws MeasurementParseException
+     *           if a quantity cannot be parsed, or the input is not valid UTF-8
+     * @throws javax.measure.UnconvertibleException
+     *           if a parsed unit is not convertible to the target unit
+     */
+    public void parse(ByteBuffer bytes, QuantityConsumer consumer) {
+        scanUnchecked(byteSource(bytes), toSink(consumer));
+    }
+
+    // Sources and sinks
+
+    /**
+     * Fills a part of the buffer, like {@link Reader#read(char[], int, int)}.
+     */
+    @FunctionalInterface
+    private interface Source {
+        int read(char[] buf, int off, int len) throws IOException;
+    }
+
+    /**
+     * Receives each value with the dictionary index of its parsed unit.
+     */
+    @FunctionalInterface
+    private interface Sink {
+        void accept(double value, int unitIndex);
+    }
+
+    private Sink toSink(QuantityConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        return (value, unitIndex) -> consumer.accept(value,
+                unitIndex < 0 ? null : targetUnit != null ? targetUnit : units.get(unitIndex));
+    }
+
+    private static Source charSource(CharBuffer chars) {
+        return (buf, off, len) -> {
+            final int n = Math.min(len, chars.remaining());
+            if (n == 0) {
+                return -1;
+            }
+            chars.get(buf, off, n);
+            return n;
+        };
+    }
+
+    private Source byteSource(ByteBuffer bytes) {
+        return (buf, off, len) -> {
+            final int start = bytes.position();
+            final int end = Math.min(bytes.limit(), start + len);
+            int pos = start;
+            byte b;
+            while (pos < end && (b = bytes.get(pos)) >= 0) {
+                buf[off++] = (char) b;
+                pos++;
+            }
+            bytes.position(pos);
+            if (pos > start) {
+                return pos - start;
+            }
+            if (!bytes.hasRemaining()) {
+                return -1;
+            }
+            // not ASCII, decode what fits
+            if (decoder == null) {
+                decoder = StandardCharsets.UTF_8.newDecoder();
+            }
+            final CharBuffer out = CharBuffer.wrap(buf, off, len);
+            final CoderResult result = decoder.reset().decode(bytes, out, true);
+            if (result.isError()) {
+                throw new MeasurementParseException("Invalid UTF-8 input", null, bytes.position());
+            }
+            return out.position() - off;
+        };
+    }
+
+    private final class ValuesSink implements Sink {
+        private double[] values = new double[1024];
+        private int[] unitIndices = new int[1024];
+        private int size;
+
+        @Override
+        public void accept(double value, int unitIndex) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                unitIndices = Arrays.copyOf(unitIndices, size * 2);
+            }
+            values[size] = value;
+            unitIndices[size++] = unitIndex;
+        }
+
+        private Values toValues() {
+            return new Values(Arrays.copyOf(values, size), Arrays.copyOf(unitIndices, size), getUnits(), targetUnit);
+        }
+    }
+
+    // Scanning
+
+    private void scanUnchecked(Source source, Sink sink) {
+        try {
+            scan(source, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // buffers do not throw IOException
+        }
+    }
+
+    private void scan(Source source, Sink sink) throws IOException {
+        int length = 0; // chars held in buffer, the beginning of a line not terminated yet
+        int scanned = 0;
+        long line = 0;
+        for (;;) {
+            if (buffer.length - length < MIN_READ) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            final int n = source.read(buffer, length, buffer.length - length);
+            if (n < 0) {
+                if (length > 0) {
+                    parseLine(0, length, ++line, sink);
+                }
+                return;
+            }
+            length += n;
+            int lineStart = 0;
+            for (int i = scanned; i < length; i++) {
+                if (buffer[i] == '\n') {
+                    parseLine(lineStart, i, ++line, sink);
+                    lineStart = i + 1;
+                }
+            }
+            length -= lineStart;
+            System.arraycopy(buffer, lineStart, buffer, 0, length);
+            scanned = length;
+        }
+    }
+
+    private void parseLine(int start, int end, long line, Sink sink) {
+        if (line <= headerLines) {
+            return;
+        }
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        if (isBlank(start, end)) {
+            return;
+        }
+        if (column >= 0) {
+            final int lineStart = start;
+            for (int i = 0; i < column; i++) {
+                while (start < end && buffer[start] != columnSeparator) {
+                    start++;
+                }
+                if (start == end) {
+                    throw new MeasurementParseException("Missing column " + column + " at line " + line,
+                            new String(buffer, lineStart, end - lineStart), end - lineStart);
+                }
+                start++;
+            }
+            int columnEnd = start;
+            while (columnEnd < end && buffer[columnEnd] != columnSeparator) {
+                columnEnd++;
+            }
+            end = columnEnd;
+        }
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            sink.accept(Double.NaN, -1);
+        } else {
+            parseQuantity(start, end, line, sink);
+        }
+    }
+
+    private void parseQuantity(int start, int end, long line, Sink sink) {
+        field.set(buffer, start, end);
+        cursor.setIndex(0);
+        cursor.setErrorIndex(-1);
+        double value = asciiDecimal && decimal.scan(field, cursor) ? decimal.doubleValue() : Double.NaN;
+        if (cursor.getIndex() == 0) {
+            final Number number;
+            synchronized (numberFormat) { // NumberFormat is not thread-safe
+                number = numberFormat.parse(field.toString(), cursor);
+            }
+            if (number == null) {
+                throw new MeasurementParseException("Number cannot be parsed at line " + line, field.toString(),
+                        cursor.getErrorIndex());
+            }
+            value = number.doubleValue();
+        }
+        // the unit is the part between the first and the second delimiter, as NumberDelimiterQuantityFormat reads it
+        final int partsEnd = CommonFormatter.partsEnd(field, delimiter, 0);
+        final int fieldUnitStart = CommonFormatter.unitStart(field, delimiter, 0, partsEnd);
+        if (fieldUnitStart < 0) {
+            throw new MeasurementParseException("No Unit found at line " + line, field.toString(), cursor.getIndex());
+        }
+        int unitStart = start + fieldUnitStart;
+        int unitEnd = start + CommonFormatter.unitEnd(field, delimiter, fieldUnitStart, partsEnd);
+        // the unit format ignores surrounding whitespace, so does the dictionary
+        while (unitStart < unitEnd && buffer[unitStart] <= ' ') {
+            unitStart++;
+        }
+        while (unitEnd > unitStart && buffer[unitEnd - 1] <= ' ') {
+            unitEnd--;
+        }
+        final int unitIndex = unitIndex(unitStart, unitEnd);
+        final UnitConverter converter = converters[unitIndex];
+        sink.accept(converter == null ? value : converter.convert(value), unitIndex);
+    }
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Unit dictionary
+
+    /**
+     * Returns the dictionary index of the unit written at the given range of the buffer, parsing and adding it if this
+     * string was not encountered before.
+     */
+    private int unitIndex(int start, int end) {
+        final int mask = keys.length - 1;
+        int slot = slot(buffer, start, end, mask);
+        for (char[] key; (key = keys[slot]) != null; slot = (slot + 1) & mask) {
+            if (matches(key, start, end)) {
+                return keyIndices[slot];
+            }
+        }
+        final char[] key = Arrays.copyOfRange(buffer, start, end);
+        final int index = addUnit(unitFormat.parse(new String(key)));
+        keys[slot] = key;
+        keyIndices[slot] = index;
+        if (++keyCount * 2 > keys.length) {
+            rehash();
+        }
+        return index;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private int addUnit(Unit unit) {
+        final Integer existing = unitIndices.get(unit);
+        if (existing != null) { // another string for the same unit
+            return existing;
+        }
+        final int index = units.size();
+        if (index == converters.length) {
+            converters = Arrays.copyOf(converters, index * 2);
+        }
+        converters[index] = targetUnit == null ? null : unit.getConverterTo(targetUnit);
+        units.add(unit);
+        unitIndices.put(unit, index);
+        return index;
+    }
+
+    private static int slot(char[] chars, int start, int end, int mask) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private boolean matches(char[] key, int start, int end) {
+        if (key.length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != buffer[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        final char[][] oldKeys = keys;
+        final int[] oldIndices = keyIndices;
+        keys = new char[oldKeys.length * 2][];
+        keyIndices = new int[keys.length];
+        final int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final char[] key = oldKeys[i];
+            if (key != null) {
+                int slot = slot(key, 0, key.length, mask);
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                keyIndices[slot] = oldIndices[i];
+            }
+        }
+    }
+
+    /**
+     * A reusable view of a range of the buffer, bounding number parsing to the current field.
+     */
+    private static final class Field implements CharSequence {
+        private char[] chars;
+        private int offset;
+        private int length;
+
+        void set(char[] chars, int start, int end) {
+            this.chars = chars;
+            this.offset = start;
+            this.length = end - start;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, offset, length);
+        }
+    }
+}
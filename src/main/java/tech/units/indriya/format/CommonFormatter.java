@@ -31,8 +31,11 @@ package tech.units.indriya.format;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -52,7 +55,7 @@ import tech.units.indriya.quantity.Quantities;
  * Common helper class that handles internals of formatting in {@link SimpleQuantityFormat}, {@link NumberDelimiterQuantityFormat}
  * 
  * @author keilw
- * @version 2.1
+ * @version 2.3, October 17, 2026
  * @since 2.0
  */
 @API(status=INTERNAL)
@@ -62,26 +65,32 @@ abstract class CommonFormatter {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     static MixedQuantity<?> parseMixed(final String str, final NumberFormat numberFormat, final UnitFormat unitFormat, final String delimiter,
             final String mixDelimiter, final int position) throws IllegalArgumentException, MeasurementParseException {
-        final String section = str.substring(position);
-        final String[] sectionParts = section.split(mixDelimiter);
         final List<Quantity> quants = new ArrayList<>();
-        final RationalNumberFormat rationalNumberFormat = RationalNumberFormat.wrap(numberFormat);  
-        for (String compStr : sectionParts) {
-            final String[] parts = compStr.split(delimiter);
-            if (parts.length < 2) {
+        final RationalNumberFormat rationalNumberFormat = RationalNumberFormat.wrap(numberFormat);
+        final int sectionsEnd = segmentsEnd(str, mixDelimiter, position, str.length());
+        if (position == str.length()) {
+            throw new IllegalArgumentException("No Unit found");
+        }
+        int pos = position;
+        while (pos < sectionsEnd) {
+            final int next = indexOf(str, mixDelimiter, pos, sectionsEnd);
+            final int sectionEnd = next < 0 ? sectionsEnd : next;
+            final int partsEnd = segmentsEnd(str, delimiter, pos, sectionEnd);
+            final int numberEnd = indexOf(str, delimiter, pos, partsEnd);
+            if (numberEnd < 0) {
                 throw new IllegalArgumentException("No Unit found");
-            } else {
-                Number num = null;
-                try {
-                    num = rationalNumberFormat.parse(parts[0]);
-                } catch (ParseException pe) {
-                    throw new MeasurementParseException(pe);
-                }
-                Unit unit = unitFormat.parse(parts[1]);
-                if (num != null && unit != null) {
-                    quants.add(Quantities.getQuantity(num, unit));
-                }
             }
+            final int unitStart = numberEnd + delimiter.length();
+            final int unitEnd = indexOf(str, delimiter, unitStart, partsEnd);
+            final Number num = parseNumber(rationalNumberFormat, numberFormat, str.substring(pos, numberEnd));
+            final Unit unit = unitFormat.parse(str.substring(unitStart, unitEnd < 0 ? partsEnd : unitEnd));
+            if (num != null && unit != null) {
+                quants.add(Quantities.getQuantity(num, unit));
+            }
+            if (next < 0) {
+                break;
+            }
+            pos = next + mixDelimiter.length();
         }
         final Quantity[] qArray = new Quantity[quants.size()];
         quants.toArray(qArray);
@@ -97,26 +106,28 @@ abstract class CommonFormatter {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     static MixedQuantity<?> parseMixed(final String str, final NumberFormat numberFormat, final UnitFormat unitFormat, final String delimiter, final int position) throws IllegalArgumentException, MeasurementParseException {
         Objects.requireNonNull(str);
-        final String section = str.substring(position);
         final List<Quantity<?>> quants = new ArrayList<>();
         final RationalNumberFormat rationalNumberFormat = RationalNumberFormat.wrap(numberFormat);
-        final String[] parts = section.split(delimiter);
-        if (parts.length < 2) {
+        final int partsEnd = segmentsEnd(str, delimiter, position, str.length());
+        int pos = position;
+        int numberEnd = indexOf(str, delimiter, pos, partsEnd);
+        if (numberEnd < 0) {
             throw new IllegalArgumentException("No Unit found");
-        } else {
-            for (int i=0; i < parts.length-1; i++) {
-                Number num = null;
-                try {
-                    num = rationalNumberFormat.parse(parts[i]);
-                } catch (ParseException pe) {
-                    throw new MeasurementParseException(pe);
-                }
-                Unit unit = unitFormat.parse(parts[i+1]);
-                if (num != null && unit != null) {
-                    quants.add(Quantities.getQuantity(num, unit));
-                }
-                i++; // get to next number
+        }
+        // numbers and units alternate, a trailing number without unit is ignored
+        while (numberEnd >= 0) {
+            final int unitStart = numberEnd + delimiter.length();
+            final int unitEnd = indexOf(str, delimiter, unitStart, partsEnd);
+            final Number num = parseNumber(rationalNumberFormat, numberFormat, str.substring(pos, numberEnd));
+            final Unit unit = unitFormat.parse(str.substring(unitStart, unitEnd < 0 ? partsEnd : unitEnd));
+            if (num != null && unit != null) {
+                quants.add(Quantities.getQuantity(num, unit));
             }
+            if (unitEnd < 0) {
+                break;
+            }
+            pos = unitEnd + delimiter.length();
+            numberEnd = indexOf(str, delimiter, pos, partsEnd);
         }
         Quantity[] qArray = new Quantity[quants.size()];
         qArray= quants.toArray(qArray);
@@ -174,6 +185,252 @@ abstract class CommonFormatter {
         return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, 0);
     }
     
+    // Scanning helpers
+
+    /**
+     * Returns the unit part of a quantity, being the text between the first and second occurrence of {@code delimiter}
+     * after {@code position}, as {@code csq.subSequence(position).split(delimiter)[1]} would with a literal delimiter.
+     */
+    static String unitPart(final CharSequence csq, final String delimiter, final int position) {
+        final int partsEnd = partsEnd(csq, delimiter, position);
+        final int unitStart = unitStart(csq, delimiter, position, partsEnd);
+        if (unitStart < 0) {
+            throw new IllegalArgumentException("No Unit found");
+        }
+        return csq.subSequence(unitStart, unitEnd(csq, delimiter, unitStart, partsEnd)).toString();
+    }
+
+    /**
+     * Returns the end of the text the parts of a quantity starting at {@code position} are split from, as
+     * {@link String#split(String)} drops trailing empty parts.
+     */
+    static int partsEnd(final CharSequence csq, final String delimiter, final int position) {
+        return segmentsEnd(csq, delimiter, position, csq.length());
+    }
+
+    /**
+     * Returns the start of the unit part, right after the first occurrence of {@code delimiter} after {@code position},
+     * or {@code -1} if there is none before {@code partsEnd}.
+     */
+    static int unitStart(final CharSequence csq, final String delimiter, final int position, final int partsEnd) {
+        final int numberEnd = indexOf(csq, delimiter, position, partsEnd);
+        return numberEnd < 0 ? -1 : numberEnd + delimiter.length();
+    }
+
+    /**
+     * Returns the end of the unit part starting at {@code unitStart}, being the next occurrence of {@code delimiter} or
+     * {@code partsEnd}.
+     */
+    static int unitEnd(final CharSequence csq, final String delimiter, final int unitStart, final int partsEnd) {
+        final int unitEnd = indexOf(csq, delimiter, unitStart, partsEnd);
+        return unitEnd < 0 ? partsEnd : unitEnd;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code delimiter} in {@code csq} between {@code from} and {@code to},
+     * or {@code -1} if there is none. An empty delimiter matches between any two characters.
+     */
+    static int indexOf(final CharSequence csq, final String delimiter, final int from, final int to) {
+        final int length = delimiter.length();
+        if (length == 0) {
+            return from + 1 < to ? from + 1 : -1;
+        }
+        final char first = delimiter.charAt(0);
+        search: for (int i = from, last = to - length; i <= last; i++) {
+            if (csq.charAt(i) != first) {
+                continue;
+            }
+            for (int j = 1; j < length; j++) {
+                if (csq.charAt(i + j) != delimiter.charAt(j)) {
+                    continue search;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the end of the last non-empty segment between {@code from} and {@code to} separated by {@code delimiter}, or
+     * {@code from} if there is none, as {@link String#split(String)} drops trailing empty segments.
+     */
+    private static int segmentsEnd(final CharSequence csq, final String delimiter, final int from, final int to) {
+        int end = from;
+        int pos = from;
+        for (;;) {
+            final int next = indexOf(csq, delimiter, pos, to);
+            final int segmentEnd = next < 0 ? to : next;
+            if (segmentEnd > pos) {
+                end = segmentEnd;
+            }
+            if (next < 0) {
+                return end;
+            }
+            pos = next + delimiter.length();
+        }
+    }
+
+    /**
+     * Indicates whether {@code numberFormat} parses plain ASCII decimals (like {@code -12.5}) exactly as
+     * {@link #parseAsciiDecimal(CharSequence, ParsePosition)} does, which is the case for a {@link DecimalFormat} with
+     * {@code '.'} as decimal separator and no affixes other than a leading {@code '-'}, such as
+     * {@code NumberFormat.getInstance(Locale.ROOT)}.
+     */
+    static boolean isAsciiDecimal(final NumberFormat numberFormat) {
+        if (numberFormat == null || numberFormat.getClass() != DecimalFormat.class) {
+            return false;
+        }
+        final DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        return symbols.getDecimalSeparator() == '.' && symbols.getZeroDigit() == '0' && symbols.getMinusSign() == '-'
+                && (symbols.getGroupingSeparator() == ',' || !decimalFormat.isGroupingUsed())
+                && decimalFormat.getPositivePrefix().isEmpty()
+                && decimalFormat.getPositiveSuffix().isEmpty() && "-".equals(decimalFormat.getNegativePrefix())
+                && decimalFormat.getNegativeSuffix().isEmpty() && decimalFormat.getMultiplier() == 1
+                && !decimalFormat.isParseBigDecimal() && !decimalFormat.isParseIntegerOnly();
+    }
+
+    /**
+     * Parses a plain ASCII decimal ({@code -?[0-9]+(\.[0-9]+)?}) of up to 18 significant digits at the cursor, yielding
+     * the same {@link Long} or {@link Double} a {@link #isAsciiDecimal(NumberFormat) matching} {@link DecimalFormat}
+     * would, without synchronizing.
+     *
+     * @return the number, with the cursor moved past it, or {@code null} (with the cursor unchanged) if the text does
+     *         not start with such a plain decimal and needs to be parsed by the {@link NumberFormat}.
+     */
+    static Number parseAsciiDecimal(final CharSequence csq, final ParsePosition cursor) {
+        final AsciiDecimal decimal = new AsciiDecimal();
+        return decimal.scan(csq, cursor) ? decimal.numberValue() : null;
+    }
+
+    /**
+     * Scanner of plain ASCII decimals ({@code -?[0-9]+(\.[0-9]+)?}) of up to 18 significant digits, holding the last one
+     * scanned as mantissa and scale. Callers parsing many numbers reuse an instance, which is not thread-safe.
+     */
+    static final class AsciiDecimal {
+        private CharSequence csq;
+        private int start; // of the digits, past any sign
+        private int end;
+        private boolean negative;
+        private long mantissa;
+        private int scale; // of the mantissa, without trailing zeros of the fraction
+
+        /**
+         * Scans the decimal at the cursor.
+         *
+         * @return {@code true}, with the cursor moved past the decimal, or {@code false} (with the cursor unchanged) if
+         *         the text does not start with such a plain decimal.
+         */
+        boolean scan(final CharSequence csq, final ParsePosition cursor) {
+            final int length = csq.length();
+            int pos = cursor.getIndex();
+            final boolean negative = pos < length && csq.charAt(pos) == '-';
+            if (negative) {
+                pos++;
+            }
+            if (pos >= length || !isAsciiDigit(csq.charAt(pos))) {
+                return false;
+            }
+            final int start = pos;
+            long mantissa = 0;
+            int digits = 0; // significant digits
+            int scale = 0;
+            char c;
+            while (pos < length && isAsciiDigit(c = csq.charAt(pos))) {
+                if (digits > 0 || c != '0') {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                }
+                pos++;
+            }
+            if (pos + 1 < length && csq.charAt(pos) == '.' && isAsciiDigit(csq.charAt(pos + 1))) {
+                pos++;
+                while (pos < length && isAsciiDigit(c = csq.charAt(pos))) {
+                    if (digits > 0 || c != '0') {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+                    }
+                    scale++;
+                    pos++;
+                }
+            }
+            if (digits > 18 || pos < length && !isNumberEnd(csq.charAt(pos))) {
+                return false;
+            }
+            while (scale > 0 && mantissa % 10 == 0) {
+                mantissa /= 10;
+                scale--;
+            }
+            cursor.setIndex(pos);
+            this.csq = csq;
+            this.start = start;
+            this.end = pos;
+            this.negative = negative;
+            this.mantissa = mantissa;
+            this.scale = scale;
+            return true;
+        }
+
+        /**
+         * Returns the decimal scanned last as a {@link DecimalFormat} would, a {@link Long} if integral (except for
+         * {@code -0}) and a {@link Double} otherwise.
+         */
+        Number numberValue() {
+            if (scale == 0 && (mantissa != 0 || !negative)) {
+                return negative ? -mantissa : mantissa;
+            }
+            return doubleValue();
+        }
+
+        /**
+         * Returns the decimal scanned last as the closest {@code double}, as {@link Double#parseDouble(String)} would.
+         */
+        double doubleValue() {
+            final double value;
+            if (scale == 0) {
+                value = mantissa; // exact up to 2^53, correctly rounded beyond
+            } else if (mantissa < 1L << 53 && scale < POWERS_OF_TEN.length) {
+                // both operands are exact, so the quotient is correctly rounded like Double.parseDouble
+                value = mantissa / POWERS_OF_TEN[scale];
+            } else {
+                value = Double.parseDouble(csq.subSequence(start, end).toString());
+            }
+            return negative ? -value : value;
+        }
+    }
+
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+            1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private static boolean isAsciiDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Whether a {@link DecimalFormat} would stop parsing a number at this character, too.
+     */
+    private static boolean isNumberEnd(final char c) {
+        return !Character.isLetterOrDigit(c) && c != '.' && c != ',' && c != '%' && c != '\u2030' && c != '\u00A4';
+    }
+
+    /**
+     * Parses a number with the rational number format, synchronizing on the wrapped {@link NumberFormat}, which is not
+     * thread-safe.
+     */
+    private static Number parseNumber(final RationalNumberFormat rationalNumberFormat, final NumberFormat numberFormat,
+            final String text) throws MeasurementParseException {
+        try {
+            if (numberFormat == null) {
+                return rationalNumberFormat.parse(text);
+            }
+            synchronized (numberFormat) {
+                return rationalNumberFormat.parse(text);
+            }
+        } catch (ParseException pe) {
+            throw new MeasurementParseException(pe);
+        }
+    }
+
     // Private helpers
     
     private static final <Q extends Quantity<Q>> Unit<Q> getLeadingUnit(final MixedQuantity<Q> comp) {
@@ -38,7 +38,6 @@ import tech.units.indriya.internal.format.UnitFormatParser;
 import tech.units.indriya.unit.AnnotatedUnit;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.text.ParsePosition;
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -143,7 +142,7 @@ import java.util.ResourceBundle;
  * 
  * @author <a href="mailto:eric-r@northwestern.edu">Eric Russell</a>
  * @author <a href="mailto:werner@uom.tech">Werner Keil</a>
- * @version 2.2, October 12, 2024
+ * @version 2.3, October 17, 2026
  * @since 1.0
  */
 public class EBNFUnitFormat extends AbstractUnitFormat {
@@ -285,13 +284,34 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
     if (end <= start) {
       return AbstractUnit.ONE;
     }
-    String source = csq.subSequence(start, end).toString().trim();
-    if (source.length() == 0) {
+    // Trims like String.trim(), without copying the characters.
+    int first = start;
+    int last = end;
+    while (first < last && csq.charAt(first) <= ' ') {
+      first++;
+    }
+    while (last > first && csq.charAt(last - 1) <= ' ') {
+      last--;
+    }
+    if (first == last) {
       return AbstractUnit.ONE;
     }
+    final UnitParseCache parseCache = symbolMap.getParseCache();
+    final String source = parseCache.isEnabled() ? csq.subSequence(first, last).toString() : null;
+    if (source != null) {
+      final Unit<?> cached = parseCache.get(source);
+      if (cached != null) {
+        if (cursor != null)
+          cursor.setIndex(end);
+        return cached;
+      }
+    }
     try {
-      UnitFormatParser parser = new UnitFormatParser(symbolMap, new StringReader(source));
-      Unit<?> result = parser.parseUnit();
+      final long generation = parseCache.generation();
+      Unit<?> result = UnitFormatParser.parse(symbolMap, csq, first, last);
+      if (source != null) {
+        parseCache.put(source, result, generation);
+      }
       if (cursor != null)
         cursor.setIndex(end);
       return result;
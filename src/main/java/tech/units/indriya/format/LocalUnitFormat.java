@@ -50,7 +50,6 @@ import static tech.units.indriya.unit.Units.KILOGRAM;
 import static tech.units.indriya.unit.Units.LITRE;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.text.ParsePosition;
 import java.util.Locale;
 import java.util.Map;
@@ -156,7 +155,7 @@ import java.util.ResourceBundle;
  *
  * @author <a href="mailto:eric-r@northwestern.edu">Eric Russell</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 1.7, February 9, 2025
+ * @version 1.8, October 17, 2026
  * @since 1.0
  */
 public class LocalUnitFormat extends AbstractUnitFormat {
@@ -261,13 +260,33 @@ public class LocalUnitFormat extends AbstractUnitFormat {
     if (end <= start) {
       return AbstractUnit.ONE;
     }
-    String source = csq.subSequence(start, end).toString().trim();
-    if (source.length() == 0) {
+    // Trims like String.trim(), without copying the characters.
+    int first = start;
+    int last = end;
+    while (first < last && csq.charAt(first) <= ' ') {
+      first++;
+    }
+    while (last > first && csq.charAt(last - 1) <= ' ') {
+      last--;
+    }
+    if (first == last) {
       return AbstractUnit.ONE;
     }
+    final UnitParseCache parseCache = symbolMap.getParseCache();
+    final String source = parseCache.isEnabled() ? csq.subSequence(first, last).toString() : null;
+    if (source != null) {
+      final Unit<?> cached = parseCache.get(source);
+      if (cached != null) {
+        cursor.setIndex(end);
+        return cached;
+      }
+    }
     try {
-      UnitFormatParser parser = new UnitFormatParser(symbolMap, new StringReader(source));
-      Unit<?> result = parser.parseUnit();
+      final long generation = parseCache.generation();
+      Unit<?> result = UnitFormatParser.parse(symbolMap, csq, first, last);
+      if (source != null) {
+        parseCache.put(source, result, generation);
+      }
       cursor.setIndex(end);
       return result;
     } catch (TokenException e) {
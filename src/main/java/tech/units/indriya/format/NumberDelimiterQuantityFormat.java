@@ -55,7 +55,7 @@ import tech.units.indriya.quantity.Quantities;
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author <a href="mailto:thodoris.bais@gmail.com">Teo Bais</a>
  *
- * @version 3.0, $Date: 2025-07-07 $
+ * @version 3.1, $Date: 2026-10-17 $
  * @since 2.0
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -83,6 +83,10 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
     private transient NumberFormat numberFormat;
     private transient UnitFormat unitFormat;
     private transient Unit primaryUnit;
+    /**
+     * Whether plain ASCII decimals can be parsed without the {@link NumberFormat}, determined when built.
+     */
+    private transient boolean asciiDecimal;
     private String delimiter;
     private String mixDelimiter;
     private boolean localeSensitive;
@@ -177,6 +181,7 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
         public NumberDelimiterQuantityFormat build() {
             NumberDelimiterQuantityFormat quantityFormat = new NumberDelimiterQuantityFormat();
             quantityFormat.numberFormat = this.numberFormat;
+            quantityFormat.asciiDecimal = CommonFormatter.isAsciiDecimal(this.numberFormat);
             quantityFormat.unitFormat = this.unitFormat;
             quantityFormat.primaryUnit = this.primaryUnit;
             quantityFormat.delimiter = this.delimiter;
@@ -258,7 +263,9 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
 
     @Override
     public Appendable format(Quantity<?> quantity, Appendable dest) throws IOException {
-	    dest.append(numberFormat.format(quantity.getValue()));
+	    synchronized (numberFormat) { // NumberFormat is not thread-safe
+	        dest.append(numberFormat.format(quantity.getValue()));
+	    }
 	    if (quantity.getUnit().equals(AbstractUnit.ONE))
 	        return dest;
 	    dest.append(delimiter);
@@ -267,29 +274,27 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
 
     @Override
     public Quantity<?> parse(CharSequence csq, ParsePosition cursor) throws IllegalArgumentException, MeasurementParseException {
-        final String str = csq.toString();
         final int index = cursor.getIndex();
-        if (mixDelimiter != null && !mixDelimiter.equals(delimiter)) {
-            if (primaryUnit != null) {
-                return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, mixDelimiter, index);
+        if (mixDelimiter != null) {
+            final String str = csq.toString();
+            if (!mixDelimiter.equals(delimiter)) {
+                if (primaryUnit != null) {
+                    return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, mixDelimiter, index);
+                } else {
+                    return parseMixedAsLeading(str, numberFormat, unitFormat, delimiter, mixDelimiter, index);
+                }
             } else {
-                return parseMixedAsLeading(str, numberFormat, unitFormat, delimiter, mixDelimiter, index);
-            }
-        } else if (mixDelimiter != null && mixDelimiter.equals(delimiter)) {
-            if (primaryUnit != null) {
-                return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, index);
-            } else {
-                return parseMixedAsLeading(str, numberFormat, unitFormat, delimiter, index);
+                if (primaryUnit != null) {
+                    return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, index);
+                } else {
+                    return parseMixedAsLeading(str, numberFormat, unitFormat, delimiter, index);
+                }
             }
         }
-        final Number number = numberFormat.parse(str, cursor);
+        final Number number = parseNumber(csq, cursor);
         if (number == null)
             throw new IllegalArgumentException("Number cannot be parsed");
-        final String[] parts = str.substring(index).split(delimiter);
-        if (parts.length < 2) {
-            throw new IllegalArgumentException("No Unit found");
-        }
-        final Unit unit = unitFormat.parse(parts[1]);
+        final Unit unit = unitFormat.parse(CommonFormatter.unitPart(csq, delimiter, index));
         return Quantities.getQuantity(number, unit);
     }
 
@@ -313,6 +318,26 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
         return localeSensitive;
     }
 
+    NumberFormat getNumberFormat() {
+        return numberFormat;
+    }
+
+    UnitFormat getUnitFormat() {
+        return unitFormat;
+    }
+
+    String getDelimiter() {
+        return delimiter;
+    }
+
+    String getMixDelimiter() {
+        return mixDelimiter;
+    }
+
+    boolean isAsciiDecimal() {
+        return asciiDecimal;
+    }
+
     @Override
     protected StringBuffer formatMixed(MixedQuantity<?> comp, StringBuffer dest) {
         final StringBuffer sb = new StringBuffer();
@@ -328,24 +353,35 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
     }
 
     public MixedQuantity<?> parseMixed(CharSequence csq, ParsePosition cursor) throws IllegalArgumentException, MeasurementParseException {
-        final String str = csq.toString();
         final int index = cursor.getIndex();
         if (mixDelimiter != null && !mixDelimiter.equals(delimiter)) {
-                return CommonFormatter.parseMixed(str, numberFormat, unitFormat, delimiter, mixDelimiter, index);
+                return CommonFormatter.parseMixed(csq.toString(), numberFormat, unitFormat, delimiter, mixDelimiter, index);
         } else if (mixDelimiter != null && mixDelimiter.equals(delimiter)) {
-                return CommonFormatter.parseMixed(str, numberFormat, unitFormat, delimiter, index);
+                return CommonFormatter.parseMixed(csq.toString(), numberFormat, unitFormat, delimiter, index);
         }
-        final Number number = numberFormat.parse(str, cursor);
+        final Number number = parseNumber(csq, cursor);
         if (number == null)
             throw new IllegalArgumentException("Number cannot be parsed");
-        final String[] parts = str.substring(index).split(delimiter);
-        if (parts.length < 2) {
-            throw new IllegalArgumentException("No Unit found");
-        }
-        final Unit unit = unitFormat.parse(parts[1]);
+        final Unit unit = unitFormat.parse(CommonFormatter.unitPart(csq, delimiter, index));
         return MixedQuantity.of(Quantities.getQuantity(number, unit));
     }
 
+    /**
+     * Parses the number at the cursor, directly if it is a plain ASCII decimal the {@link NumberFormat} would read the same,
+     * otherwise with the {@link NumberFormat}, which is not thread-safe.
+     */
+    private Number parseNumber(CharSequence csq, ParsePosition cursor) {
+        if (asciiDecimal) {
+            final Number number = CommonFormatter.parseAsciiDecimal(csq, cursor);
+            if (number != null) {
+                return number;
+            }
+        }
+        synchronized (numberFormat) {
+            return numberFormat.parse(csq.toString(), cursor);
+        }
+    }
+
     protected MixedQuantity<?> parseMixed(CharSequence csq, int index) throws IllegalArgumentException, MeasurementParseException {
         return parseMixed(csq, new ParsePosition(index));
     }
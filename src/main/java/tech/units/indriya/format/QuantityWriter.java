@@ -0,0 +1,334 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.DefaultNumberSystem;
+import tech.units.indriya.spi.NumberSystem;
+
+/**
+ * Writes quantities as text directly into a caller-supplied {@link StringBuilder} or {@link ByteBuffer}, exactly as
+ * {@link SimpleQuantityFormat#getInstance()} (and thus {@link tech.units.indriya.AbstractQuantity#toString()
+ * AbstractQuantity.toString()}) formats them: the value's {@code toString()}, a space and the unit symbol, the latter
+ * omitted for {@link AbstractUnit#ONE}.
+ * <p>
+ * Values of the primitive wrapper types are appended without creating intermediate strings, using
+ * {@link StringBuilder#append(double)} and friends, which are specified to yield the same text as
+ * {@link Double#toString(double)}. Unit symbols are computed once per unit by the {@link SimpleUnitFormat} and kept
+ * both as {@code String} and as UTF-8 bytes, until a label or alias of the format changes.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, like a {@link StringBuilder} they are meant to be reused by one thread, e.g. to
+ * write millions of readings into an export buffer.
+ * </p>
+ *
+ * <pre>
+ * QuantityWriter writer = new QuantityWriter();
+ * StringBuilder sb = new StringBuilder();
+ * writer.write(Quantities.getQuantity(1.5, Units.METRE), sb); // same as append(quantity.toString())
+ * writer.write(20.5, Units.CELSIUS, buffer); // UTF-8 bytes of "20.5 ℃"
+ * </pre>
+ *
+ * @version 1.1, October 17, 2026
+ * @since 2.2.5
+ */
+@API(status = EXPERIMENTAL)
+public final class QuantityWriter {
+
+    /**
+     * Units whose symbols are kept, the cache is cleared once exceeded.
+     */
+    private static final int MAX_SYMBOLS = 256;
+
+    private static final byte[] DELIMITER = { ' ' };
+
+    private final SimpleUnitFormat unitFormat;
+
+    /**
+     * Symbols by unit identity, as equal units (e.g. product units with their elements in a different order) may
+     * format differently.
+     */
+    private final Map<Unit<?>, Symbol> symbols = new IdentityHashMap<>();
+    private int labelVersion = SimpleUnitFormat.labelVersion();
+
+    /**
+     * Holds the number text written into a {@link ByteBuffer}, reused.
+     */
+    private final StringBuilder scratch = new StringBuilder(32);
+
+    /**
+     * Creates a writer using the default {@link SimpleUnitFormat}, whose output is identical to {@code toString()}.
+     */
+    public QuantityWriter() {
+        this(SimpleUnitFormat.getInstance());
+    }
+
+    /**
+     * Creates a writer formatting units with the given {@link SimpleUnitFormat}, e.g. its
+     * {@link SimpleUnitFormat.Flavor#ASCII ASCII} flavor.
+     *
+     * @param unitFormat
+     *          the unit format.
+     * @throws NullPointerException
+     *           if {@code unitFormat} is {@code null}
+     */
+    public QuantityWriter(SimpleUnitFormat unitFormat) {
+        this.unitFormat = Objects.requireNonNull(unitFormat);
+    }
+
+    /**
+     * Appends a quantity.
+     *
+     * @param quantity
+     *          the quantity to write.
+     * @param dest
+     *          the destination.
+     * @return {@code dest}
+     */
+    public StringBuilder write(Quantity<?> quantity, StringBuilder dest) {
+        appendNumber(quantity.getValue(), dest);
+        return appendUnit(quantity.getUnit(), dest);
+    }
+
+    /**
+     * Appends a quantity given by its {@code double} value and unit, as
+     * {@code Quantities.getQuantity(value, unit).toString()} would read. Like the quantity, integral values are
+     * narrowed by the current number system, e.g. {@code 2.0} is written as {@code 2}.
+     *
+     * @param value
+     *          the value.
+     * @param unit
+     *          the unit.
+     * @param dest
+     *          the destination.
+     * @return {@code dest}
+     */
+    public StringBuilder write(double value, Unit<?> unit, StringBuilder dest) {
+        appendDouble(value, dest);
+        return appendUnit(unit, dest);
+    }
+
+    /**
+     * Appends the symbol of a unit, as {@code unit.toString()} would read.
+     *
+     * @param unit
+     *          the unit.
+     * @param dest
+     *          the destination.
+     * @return {@code dest}
+     */
+    public StringBuilder write(Unit<?> unit, StringBuilder dest) {
+        return dest.append(symbolOf(unit).text);
+    }
+
+    /**
+     * Writes a quantity as UTF-8 bytes at the buffer's position, advancing it. Nothing is written if the quantity does
+     * not fit.
+     *
+     * @param quantity
+     *          the quantity to write.
+     * @param dest
+     *          the destination.
+     * @return {@code dest}
+     * @throws BufferOverflowException
+     *           if there are fewer bytes remaining in {@code dest} than needed
+     * @throws java.nio.ReadOnlyBufferException
+     *           if {@code dest} is read-only
+     */
+    public ByteBuffer write(Quantity<?> quantity, ByteBuffer dest) {
+        scratch.setLength(0);
+        appendNumber(quantity.getValue(), scratch);
+        return put(quantity.getUnit(), dest);
+    }
+
+    /**
+     * Writes a quantity given by its {@code double} value and unit as UTF-8 bytes at the buffer's position, advancing
+     * it, as {@link #write(double, Unit, StringBuilder)} would append it. Nothing is written if the quantity does not
+     * fit.
+     *
+     * @param value
+     *          the value.
+     * @param unit
+     *          the unit.
+     * @param dest
+     *          the destination.
+     * @return {@code dest}
+     * @throws BufferOverflowException
+     *           if there are fewer bytes remaining in {@code dest} than needed
+     * @throws java.nio.ReadOnlyBufferException
+     *           if {@code dest} is read-only
+     */
+    public ByteBuffer write(double value, Unit<?> unit, ByteBuffer dest) {
+        scratch.setLength(0);
+        appendDouble(value, scratch);
+        return put(unit, dest);
+    }
+
+    // Helpers
+
+    /**
+     * Appends the number as its {@code toString()} would read, without creating a string for the primitive wrappers.
+     */
+    private static void appendNumber(Number number, StringBuilder dest) {
+        if (number instanceof Double) {
+            dest.append(number.doubleValue());
+        } else if (number instanceof Long) {
+            dest.append(number.longValue());
+        } else if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            dest.append(number.intValue());
+        } else if (number instanceof Float) {
+            dest.append(number.floatValue());
+        } else {
+            dest.append(number.toString());
+        }
+    }
+
+    /**
+     * Appends a {@code double} value as a quantity created from it holds it after narrowing, inlining what
+     * {@link DefaultNumberSystem#narrow(Number)} does for finite doubles.
+     */
+    private static void appendDouble(double value, StringBuilder dest) {
+        final NumberSystem ns = Calculus.currentNumberSystem();
+        if (ns.getClass() != DefaultNumberSystem.class || !Double.isFinite(value)) {
+            appendNumber(ns.narrow(value), dest);
+        } else if (value == 0) {
+            dest.append('0');
+        } else if (value != Math.rint(value)) {
+            dest.append(value);
+        } else if (value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+            dest.append((long) value);
+        } else {
+            appendNumber(ns.narrow(value), dest); // beyond long
+        }
+    }
+
+    private StringBuilder appendUnit(Unit<?> unit, StringBuilder dest) {
+        if (unit.equals(AbstractUnit.ONE)) {
+            return dest;
+        }
+        return dest.append(' ').append(symbolOf(unit).text);
+    }
+
+    /**
+     * Writes the number held by {@link #scratch}, followed by the unit, if all of it fits.
+     */
+    private ByteBuffer put(Unit<?> unit, ByteBuffer dest) {
+        final byte[] symbol = unit.equals(AbstractUnit.ONE) ? null : symbolOf(unit).utf8;
+        final int length = utf8Length(scratch) + (symbol == null ? 0 : DELIMITER.length + symbol.length);
+        if (dest.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        putUtf8(scratch, dest);
+        if (symbol != null) {
+            dest.put(DELIMITER).put(symbol);
+        }
+        return dest;
+    }
+
+    private Symbol symbolOf(Unit<?> unit) {
+        final int version = SimpleUnitFormat.labelVersion();
+        if (version != labelVersion || symbols.size() >= MAX_SYMBOLS) {
+            symbols.clear();
+            labelVersion = version;
+        }
+        Symbol symbol = symbols.get(unit);
+        if (symbol == null) {
+            symbol = new Symbol(unitFormat.format(unit));
+            symbols.put(unit, symbol);
+        }
+        return symbol;
+    }
+
+    private static int utf8Length(CharSequence csq) {
+        int length = 0;
+        for (int i = 0; i < csq.length(); i++) {
+            final char c = csq.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < csq.length() && Character.isLowSurrogate(csq.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes the characters as UTF-8, the number text is ASCII in practice, so this rarely goes beyond a byte per char.
+     */
+    private static void putUtf8(CharSequence csq, ByteBuffer dest) {
+        for (int i = 0; i < csq.length(); i++) {
+            final char c = csq.charAt(i);
+            if (c < 0x80) {
+                dest.put((byte) c);
+            } else if (c < 0x800) {
+                dest.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < csq.length() && Character.isLowSurrogate(csq.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, csq.charAt(++i));
+                dest.put((byte) (0xF0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3F)).put((byte) (0x80 | cp >> 6 & 0x3F))
+                        .put((byte) (0x80 | cp & 0x3F));
+            } else {
+                dest.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * A unit symbol as text and as UTF-8 bytes.
+     */
+    private static final class Symbol {
+        private final String text;
+        private final byte[] utf8;
+
+        private Symbol(String text) {
+            this.text = text;
+            this.utf8 = text.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
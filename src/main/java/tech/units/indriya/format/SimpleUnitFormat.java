@@ -34,6 +34,8 @@ import java.text.FieldPosition;
 import java.text.ParsePosition;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,7 +83,7 @@ import static tech.units.indriya.format.FormatConstants.MIDDLE_DOT;
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Eric Russell
  * @author Andi Huber
- * @version 2.20, June 12, 2025
+ * @version 2.23, October 17, 2026
  * @since 1.0
  */
 public abstract class SimpleUnitFormat extends AbstractUnitFormat {
@@ -104,6 +106,12 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
 
     private static final String MU = "\u03bc";
 
+    /**
+     * Advanced whenever a label or alias of any instance changes, such that symbols derived from them can be cached.
+     * Shared by all instances, as the {@link Flavor#ASCII ASCII} flavor falls back to the default one.
+     */
+    private static final AtomicInteger LABEL_VERSION = new AtomicInteger();
+
     /**
      * Holds the default format instance.
      */
@@ -124,6 +132,18 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         return getInstance(Flavor.DEFAULT);
     }
 
+    /**
+     * Returns the current version of labels and aliases, which changes whenever {@link #label(Unit, String)},
+     * {@link #alias(Unit, String)} or their removal is called on any instance. This allows to cache anything derived
+     * from labels, like the string representation of units.
+     *
+     * @return the label version.
+     * @since 2.2.5
+     */
+    public static int labelVersion() {
+        return LABEL_VERSION.get();
+    }
+
     /**
      * Returns the {@link SimpleUnitFormat} in the desired {@link Flavor}
      *
@@ -294,25 +314,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
      */
     public final StringBuffer format(Object unit, final StringBuffer toAppendTo, FieldPosition pos) {
         try {
-            final Object dest = toAppendTo;
-            if (dest instanceof Appendable) {
-                format((Unit<?>) unit, (Appendable) dest);
-            } else { // When retroweaver is used to produce 1.4 binaries. TODO is this still relevant?
-                format((Unit<?>) unit, new Appendable() {
-                    public Appendable append(char arg0) throws IOException {
-                        toAppendTo.append(arg0);
-                        return null;
-                    }
-                    public Appendable append(CharSequence arg0) throws IOException {
-                        toAppendTo.append(arg0);
-                        return null;
-                    }
-                    public Appendable append(CharSequence arg0, int arg1, int arg2) throws IOException {
-                        toAppendTo.append(arg0.subSequence(arg1, arg2));
-                        return null;
-                    }
-                });
-            }
+            format((Unit<?>) unit, toAppendTo);
             return toAppendTo;
         } catch (IOException e) {
             throw new MeasurementError(e); // Should never happen.
@@ -345,6 +347,23 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         }
     }
 
+    /**
+     * A label or alias to which the standard prefixes may be applied.
+     */
+    private static final class PrefixableName {
+        final Unit<?> unit;
+        final String name;
+        final boolean binary;
+        final boolean greekMicro;
+
+        PrefixableName(Unit<?> unit, String name, boolean binary, boolean greekMicro) {
+            this.unit = unit;
+            this.name = name;
+            this.binary = binary;
+            this.greekMicro = greekMicro;
+        }
+    }
+
     /**
      * This class represents the default (Unicode) format.
      * internal class, please extend either SimpleUnitFormat or AbstractUnitFormat
@@ -357,27 +376,31 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 Units.HERTZ, Units.JOULE, Units.KATAL, Units.KELVIN, Units.LUMEN, Units.LUX, Units.METRE, Units.MOLE, Units.NEWTON, Units.OHM, Units.PASCAL,
                 Units.RADIAN, Units.SECOND, Units.SIEMENS, Units.SIEVERT, Units.STERADIAN, Units.TESLA, Units.VOLT, Units.WATT, Units.WEBER };
 
+        private static final MetricPrefix[] METRIC_PREFIXES = MetricPrefix.values();
+
+        private static final BinaryPrefix[] BINARY_PREFIXES = BinaryPrefix.values();
+
         static final String[] METRIC_PREFIX_SYMBOLS =
-                Stream.of(MetricPrefix.values())
+                Stream.of(METRIC_PREFIXES)
                 .map(Prefix::getSymbol)
                 .collect(Collectors.toList())
                 .toArray(new String[] {});
 
         // TODO try to consolidate those
         static final UnitConverter[] METRIC_PREFIX_CONVERTERS =
-                Stream.of(MetricPrefix.values())
+                Stream.of(METRIC_PREFIXES)
                 .map(MultiplyConverter::ofPrefix)
                 .collect(Collectors.toList())
                 .toArray(new UnitConverter[] {});
 
         static final String[] BINARY_PREFIX_SYMBOLS =
-                Stream.of(BinaryPrefix.values())
+                Stream.of(BINARY_PREFIXES)
                 .map(Prefix::getSymbol)
                 .collect(Collectors.toList())
                 .toArray(new String[] {});
 
         static final UnitConverter[] BINARY_PREFIX_CONVERTERS =
-                Stream.of(BinaryPrefix.values())
+                Stream.of(BINARY_PREFIXES)
                 .map(MultiplyConverter::ofPrefix)
                 .collect(Collectors.toList())
                 .toArray(new UnitConverter[] {});
@@ -404,13 +427,8 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 Unit<?> si = METRIC_UNITS[i];
                 String symbol = (si instanceof BaseUnit) ? ((BaseUnit<?>) si).getSymbol() : ((AlternateUnit<?>) si).getSymbol();
                 label(si, symbol);
-                for (int j = 0; j < METRIC_PREFIX_SYMBOLS.length; j++) {
-                    Unit<?> u = si.prefix(MetricPrefix.values()[j]);
-                    label(u, METRIC_PREFIX_SYMBOLS[j] + symbol);
-                    if ( "µ".equals(METRIC_PREFIX_SYMBOLS[j]) ) {
-                        label(u, MU + symbol);
-                    }
-                } // TODO what about BINARY_PREFIX here?
+                // prefixed units are resolved on demand, micro being labeled with the Greek letter
+                prefixable(si, symbol, false, true, true);
             }
 
             // -- GRAM/KILOGRAM
@@ -482,6 +500,32 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          */
         protected final Map<Unit<?>, String> unitToName = new HashMap<>();
 
+        /**
+         * Holds the names whose prefixed forms are parsed, by name.
+         */
+        private final Map<String, PrefixableName> prefixableNames = new HashMap<>();
+
+        /**
+         * Holds the names whose prefixed forms are formatted, by unprefixed unit.
+         */
+        private final Map<Unit<?>, PrefixableName> prefixableLabels = new HashMap<>();
+
+        /**
+         * Holds the prefixed units parsed so far, by name.
+         */
+        private final Map<String, Unit<?>> prefixedUnits = new ConcurrentHashMap<>();
+
+        /**
+         * Holds the symbols formatted by this instance.
+         */
+        private final UnitSymbolCache symbols = new UnitSymbolCache();
+
+        /**
+         * Whether a subclass overrides {@link #format(Unit, Appendable)}, which then formats every unit, bypassing the
+         * symbol cache.
+         */
+        private final boolean formatOverridden = overridesFormat(getClass());
+
         @Override
         public String toString() {
             return SimpleUnitFormat.class.getSimpleName();
@@ -495,12 +539,14 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 nameToUnit.put(label, unit);
                 unitToName.put(unit, label);
             }
+            LABEL_VERSION.incrementAndGet();
         }
         
     	@Override
 		public void removeLabel(Unit<?> unit) {
 			unitToName.remove(unit);
 			nameToUnit.entrySet().removeIf(e -> e.getValue().equals(unit));
+			LABEL_VERSION.incrementAndGet();
 		}
 
         @Override
@@ -510,17 +556,20 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             synchronized (this) {
                 nameToUnit.put(alias, unit);
             }
+            LABEL_VERSION.incrementAndGet();
         }
 
         @Override
 		public void removeAlias(Unit<?> unit, String alias) {
 			nameToUnit.remove(alias);
+			LABEL_VERSION.incrementAndGet();
 		}
         
 		@Override
 		public void removeAliases(Unit<?> unit) {
 			final String alias = unitToName.get(unit);
 			nameToUnit.entrySet().removeIf(e -> e.getValue().equals(unit) && !e.getKey().equals(alias));
+			LABEL_VERSION.incrementAndGet();
 		}
 
         @Override
@@ -538,13 +587,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          */
         private void labelWithPrefixes(Unit<?> unit, String label) {
         	label(unit, label);
-        	// TODO try to optimize this
-            for (int i = 0; i < METRIC_PREFIX_SYMBOLS.length; i++) {
-            	label(unit.prefix(MetricPrefix.values()[i]), METRIC_PREFIX_SYMBOLS[i] + label);
-            }
-            for (int i = 0; i < BINARY_PREFIX_SYMBOLS.length; i++) {
-            	label(unit.prefix(BinaryPrefix.values()[i]), BINARY_PREFIX_SYMBOLS[i] + label);
-            }
+        	prefixable(unit, label, true, false, true);
         }
         
         /**
@@ -555,14 +598,90 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          */
         private void aliasWithPrefixes(Unit<?> unit, String alias) {
         	alias(unit, alias);
-        	// TODO try to optimize this
-            for (int i = 0; i < METRIC_PREFIX_SYMBOLS.length; i++) {
-                alias(unit.prefix(MetricPrefix.values()[i]), METRIC_PREFIX_SYMBOLS[i] + alias);
+        	prefixable(unit, alias, true, false, false);
+        }
+
+        /**
+         * Registers a name whose prefixed forms are recognized (and optionally labeled) without creating the prefixed units
+         * upfront. Those are created by {@link #prefixedUnitFor(String)} the first time they are parsed.
+         *
+         * @param unit the unit to be prefixed
+         * @param name the label or alias of the unit
+         * @param binary whether binary prefixes apply in addition to metric ones
+         * @param greekMicro whether the micro prefix is written with the Greek letter mu rather than the micro sign
+         * @param labeled whether prefixed units shall also be formatted using this name
+         */
+        private void prefixable(Unit<?> unit, String name, boolean binary, boolean greekMicro, boolean labeled) {
+            final PrefixableName prefixable = new PrefixableName(unit, name, binary, greekMicro);
+            prefixableNames.put(name, prefixable);
+            if (labeled) {
+                prefixableLabels.put(unit, prefixable);
             }
-            for (int i = 0; i < BINARY_PREFIX_SYMBOLS.length; i++) {
-            	alias(unit.prefix(BinaryPrefix.values()[i]), BINARY_PREFIX_SYMBOLS[i] + alias);
+        }
+
+        // Returns the unit for a prefix followed by a prefixable name, or null if the name does not split that way.
+        private Unit<?> prefixedUnitFor(String name) {
+            Unit<?> unit = prefixedUnits.get(name);
+            if (unit != null || prefixableNames.isEmpty()) {
+                return unit;
+            }
+            for (int i = 0; i < METRIC_PREFIXES.length && unit == null; i++) {
+                final PrefixableName prefixable = prefixableAfter(name, METRIC_PREFIX_SYMBOLS[i]);
+                if (prefixable != null) {
+                    unit = prefixable.unit.prefix(METRIC_PREFIXES[i]);
+                }
+            }
+            if (unit == null) {
+                final PrefixableName prefixable = prefixableAfter(name, MU);
+                if (prefixable != null && prefixable.greekMicro) {
+                    unit = prefixable.unit.prefix(MICRO);
+                }
             }
+            for (int i = 0; i < BINARY_PREFIXES.length && unit == null; i++) {
+                final PrefixableName prefixable = prefixableAfter(name, BINARY_PREFIX_SYMBOLS[i]);
+                if (prefixable != null && prefixable.binary) {
+                    unit = prefixable.unit.prefix(BINARY_PREFIXES[i]);
+                }
+            }
+            if (unit != null) {
+                final Unit<?> previous = prefixedUnits.putIfAbsent(name, unit);
+                return previous != null ? previous : unit;
+            }
+            return null;
+        }
 
+        private PrefixableName prefixableAfter(String name, String prefix) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                return prefixableNames.get(name.substring(prefix.length()));
+            }
+            return null;
+        }
+
+        // Returns the label of a prefixed unit registered by labelWithPrefixes, or null if there is none.
+        private String prefixedLabelFor(Unit<?> unit) {
+            if (!(unit instanceof TransformedUnit) || prefixableLabels.isEmpty()) {
+                return null;
+            }
+            final TransformedUnit<?> tfmUnit = (TransformedUnit<?>) unit;
+            final PrefixableName prefixable = prefixableLabels.get(tfmUnit.getParentUnit());
+            if (prefixable == null) {
+                return null;
+            }
+            final UnitConverter cvtr = tfmUnit.getConverter();
+            for (int i = 0; i < METRIC_PREFIX_CONVERTERS.length; i++) {
+                if (METRIC_PREFIX_CONVERTERS[i].equals(cvtr)) {
+                    return (prefixable.greekMicro && METRIC_PREFIXES[i] == MICRO ? MU : METRIC_PREFIX_SYMBOLS[i])
+                            + prefixable.name;
+                }
+            }
+            if (prefixable.binary) {
+                for (int i = 0; i < BINARY_PREFIX_CONVERTERS.length; i++) {
+                    if (BINARY_PREFIX_CONVERTERS[i].equals(cvtr)) {
+                        return BINARY_PREFIX_SYMBOLS[i] + prefixable.name;
+                    }
+                }
+            }
+            return null;
         }
 
         protected static boolean isUnitIdentifierPart(char ch) {
@@ -575,6 +694,9 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         protected String nameFor(Unit<?> unit) {
             // Searches label database.
             String label = unitToName.get(unit);
+            if (label != null)
+                return label;
+            label = prefixedLabelFor(unit);
             if (label != null)
                 return label;
             if (unit instanceof BaseUnit)
@@ -669,7 +791,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             } else {
                 unit = symbolToUnit.get(name);
             }
-            return unit;
+            return unit != null ? unit : prefixedUnitFor(name);
         }
 
         // //////////////////////////
@@ -925,8 +1047,57 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         // //////////////////////////
         // Formatting.
 
+        /**
+         * Appends the cached symbol of the specified unit. Subclasses overriding this method are called to format every
+         * unit, uncached; override {@link #formatSymbol(Unit, Appendable)} instead to keep the symbols cached.
+         */
         @Override
         public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+            return appendable.append(symbolFor(unit));
+        }
+
+        @Override
+        final String formatToString(Unit<?> unit) {
+            return formatOverridden ? super.formatToString(unit) : symbolFor(unit);
+        }
+
+        private static boolean overridesFormat(Class<?> type) {
+            try {
+                return type.getMethod("format", Unit.class, Appendable.class).getDeclaringClass() != DefaultFormat.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Returns the symbol of the specified unit, formatting it only if it is not cached for the current labels.
+         */
+        final String symbolFor(Unit<?> unit) {
+            final int version = labelVersion();
+            String symbol = symbols.get(unit, version);
+            if (symbol == null) {
+                try {
+                    symbol = formatSymbol(unit, new StringBuilder()).toString();
+                } catch (IOException e) {
+                    throw new MeasurementError(e); // Should never happen.
+                }
+                symbols.put(unit, symbol, version);
+            }
+            return symbol;
+        }
+
+        /**
+         * Formats the specified unit, bypassing the symbol cache.
+         *
+         * @param unit
+         *          the unit to format.
+         * @param appendable
+         *          the appendable destination.
+         * @return The appendable destination passed in as {@code appendable}, with formatted text appended.
+         * @throws IOException
+         *           if an error occurs.
+         */
+        protected Appendable formatSymbol(Unit<?> unit, Appendable appendable) throws IOException {
             String name = nameFor(unit);
             if (name != null) {
                 return appendable.append(name);
@@ -944,7 +1115,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 // is the sub-unit known under a given label?
                 if (nameFor(powerUnit) == null)
                     // apply the power to the sub-units and format those instead
-                    return format(ProductUnit.ofPow(powerUnit, productUnit.getUnitPow(0)), appendable);
+                    return formatSymbol(ProductUnit.ofPow(powerUnit, productUnit.getUnitPow(0)), appendable);
             }
 
             int invNbr = 0;
@@ -1132,7 +1303,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         }
 
         @Override
-        public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+        protected Appendable formatSymbol(Unit<?> unit, Appendable appendable) throws IOException {
             String name = nameFor(unit);
             if (name != null)
                 return appendable.append(name);
@@ -67,7 +67,7 @@ import java.util.stream.Collectors;
  *
  * @author <a href="mailto:eric-r@northwestern.edu">Eric Russell</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.1, November 21, 2020
+ * @version 2.2, October 17, 2026
  */
 @SuppressWarnings("rawtypes")
 public final class SymbolMap {
@@ -78,6 +78,7 @@ public final class SymbolMap {
   private final Map<String, Object> symbolToPrefix;
   private final Map<Object, String> prefixToSymbol;
   private final Map<UnitConverter, Prefix> converterToPrefix;
+  private final UnitParseCache parseCache = new UnitParseCache();
 
   /**
    * Creates an empty mapping.
@@ -156,6 +157,7 @@ public final class SymbolMap {
   public void label(Unit<?> unit, String symbol) {
     symbolToUnit.put(symbol, unit);
     unitToSymbol.put(unit, symbol);
+    parseCache.clear();
   }
 
   /**
@@ -170,6 +172,7 @@ public final class SymbolMap {
    */
   public void alias(Unit<?> unit, String symbol) {
     symbolToUnit.put(symbol, unit);
+    parseCache.clear();
   }
 
   /**
@@ -182,6 +185,19 @@ public final class SymbolMap {
     symbolToPrefix.put(symbol, prefix);
     prefixToSymbol.put(prefix, symbol);
     converterToPrefix.put(MultiplyConverter.ofPrefix(prefix), prefix);
+    parseCache.clear();
+  }
+
+  /**
+   * Returns the cache of units parsed with this symbol map, which is disabled unless its
+   * {@link UnitParseCache#setMaximumSize(int) maximum size} is set. The cache is cleared whenever labels, aliases or
+   * prefixes of this symbol map change.
+   *
+   * @return the parse cache of this symbol map.
+   * @since 2.2.5
+   */
+  public UnitParseCache getParseCache() {
+    return parseCache;
   }
 
   /**
@@ -0,0 +1,176 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.measure.Unit;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.internal.function.BoundedCache;
+
+/**
+ * Bounded, thread-safe cache from unit strings to the {@link Unit units} parsed from them, held per {@link SymbolMap}.
+ * <p>
+ * Unit formats backed by a {@link SymbolMap} (such as {@link LocalUnitFormat} and {@link EBNFUnitFormat}) consult this
+ * cache before running their parser, which pays off when the same few unit strings are parsed over and over again.
+ * Parsed units are shared between all callers parsing the same string.
+ * </p>
+ * <p>
+ * The cache is disabled by default (a maximum size of {@code 0}), call {@link #setMaximumSize(int)} to opt in. Once the
+ * maximum size is exceeded, the least recently used quarter of the entries is evicted. Any change to the owning
+ * {@link SymbolMap} (labels, aliases or prefixes) clears the cache.
+ * </p>
+ *
+ * @version 1.1, October 17, 2026
+ * @since 2.2.5
+ * @see SymbolMap#getParseCache()
+ */
+@API(status = EXPERIMENTAL)
+public final class UnitParseCache {
+
+    private final BoundedCache<String, Unit<?>> cache = new BoundedCache<>(0);
+
+    /**
+     * Advanced on every {@link #clear()}, such that results of parsers that ran concurrently to a change of the
+     * {@link SymbolMap} do not get cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    UnitParseCache() {
+    }
+
+    /**
+     * Returns the maximum number of parsed units held by this cache.
+     *
+     * @return the maximum size, {@code 0} if caching is disabled.
+     */
+    public int getMaximumSize() {
+        return cache.getMaximumSize();
+    }
+
+    /**
+     * Sets the maximum number of parsed units held by this cache, evicting entries if the cache currently holds more.
+     *
+     * @param size
+     *          the new maximum size, {@code 0} to disable caching.
+     * @throws IllegalArgumentException
+     *           if {@code size} is negative.
+     */
+    public void setMaximumSize(int size) {
+        if (size == 0) {
+            generation.incrementAndGet();
+        }
+        cache.setMaximumSize(size);
+    }
+
+    /**
+     * Indicates whether parsed units are cached at all.
+     *
+     * @return {@code true} if the maximum size is greater than zero.
+     */
+    public boolean isEnabled() {
+        return cache.isEnabled();
+    }
+
+    /**
+     * Returns the number of parsed units currently cached.
+     *
+     * @return the current size.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the number of lookups that were answered from this cache.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups (while enabled) that were not answered from this cache.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * Removes all cached units, keeping the hit and miss counts.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #put(String, Unit, long)} after parsing.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the unit cached for the given (trimmed) unit string, counting a hit or miss.
+     *
+     * @return the cached unit or {@code null} if none (or caching is disabled).
+     */
+    Unit<?> get(String source) {
+        return cache.get(source);
+    }
+
+    /**
+     * Caches the unit parsed from the given (trimmed) unit string, unless the cache was cleared since
+     * {@code generation} was obtained.
+     */
+    void put(String source, Unit<?> unit, long generation) {
+        if (!cache.isEnabled() || generation != this.generation.get()) {
+            return;
+        }
+        cache.put(source, unit);
+        if (generation != this.generation.get()) {
+            cache.remove(source, unit); // cleared concurrently, the unit might be stale
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "UnitParseCache [size=" + size() + ", maximumSize=" + getMaximumSize() + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + "]";
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.Unit;
+
+/**
+ * Thread-safe cache of formatted unit symbols held per {@link SimpleUnitFormat} instance, such that derived units
+ * (like product or transformed units) are not formatted over and over again.
+ * <p>
+ * Units are weakly referenced and looked up by identity rather than equality, as equal units may format differently
+ * (e.g. product units with the same elements in a different order). Symbols are stamped with the
+ * {@link SimpleUnitFormat#labelVersion() label version} they were computed at, and are discarded once labels or aliases
+ * change.
+ * </p>
+ *
+ * @version 1.0, October 17, 2026
+ * @since 2.2.5
+ */
+final class UnitSymbolCache {
+
+    private final ConcurrentHashMap<Object, Symbol> symbols = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Unit<?>> collected = new ReferenceQueue<>();
+
+    /**
+     * Returns the cached symbol of a unit.
+     *
+     * @param unit
+     *          the unit.
+     * @param version
+     *          the current label version.
+     * @return the symbol, or {@code null} if not cached for this version.
+     */
+    String get(Unit<?> unit, int version) {
+        final Symbol symbol = symbols.get(new Lookup(unit));
+        if (symbol == null) {
+            return null;
+        }
+        if (symbol.version != version) {
+            symbols.clear(); // labels changed, all symbols are stale
+            return null;
+        }
+        return symbol.text;
+    }
+
+    /**
+     * Caches the symbol of a unit.
+     *
+     * @param unit
+     *          the unit.
+     * @param text
+     *          the symbol.
+     * @param version
+     *          the label version the symbol was computed at.
+     */
+    void put(Unit<?> unit, String text, int version) {
+        for (Object key; (key = collected.poll()) != null;) {
+            symbols.remove(key);
+        }
+        symbols.put(new Key(unit, collected), new Symbol(text, version));
+    }
+
+    int size() {
+        return symbols.size();
+    }
+
+    private static final class Symbol {
+        private final String text;
+        private final int version;
+
+        private Symbol(String text, int version) {
+            this.text = text;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Weak reference to a cached unit, equal to keys of the same unit instance.
+     */
+    private static final class Key extends WeakReference<Unit<?>> {
+        private final int hash;
+
+        private Key(Unit<?> unit, ReferenceQueue<Unit<?>> queue) {
+            super(unit, queue);
+            this.hash = System.identityHashCode(unit);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                final Unit<?> unit = get();
+                return unit != null && unit == ((Key) obj).get();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Strong, short-lived counterpart of {@link Key} used for lookups.
+     */
+    private static final class Lookup {
+        private final Unit<?> unit;
+
+        private Lookup(Unit<?> unit) {
+            this.unit = unit;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(unit);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && ((Key) obj).get() == unit;
+        }
+    }
+}
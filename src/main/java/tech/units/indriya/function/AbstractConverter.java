@@ -30,7 +30,10 @@
 package tech.units.indriya.function;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -52,7 +55,7 @@ import tech.uom.lib.common.util.UnitComparator;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 2.1, Mai 28, 2020
+ * @version 2.2, October 16, 2026
  * @since 1.0
  */
 public abstract class AbstractConverter
@@ -82,6 +85,11 @@ public abstract class AbstractConverter
      */
     protected List<? extends UnitConverter> conversionSteps; 
 
+    /**
+     * memorization for compile
+     */
+    private transient CompiledConverter compiled;
+
     /**
      * DefaultQuantityFactory constructor.
      */
@@ -174,6 +182,10 @@ public abstract class AbstractConverter
     public final UnitConverter concatenate(UnitConverter converter) {
         Objects.requireNonNull(converter, "Cannot compose with converter that is null.");
         
+        if(converter instanceof CompiledConverter) {
+            converter = ((CompiledConverter) converter).getSource();
+        }
+        
         if(converter instanceof AbstractConverter) {
             final AbstractConverter other = (AbstractConverter) converter;
             return UNIT_COMPOSITION_HANDLER.compose(this, other, 
@@ -204,6 +216,20 @@ public abstract class AbstractConverter
         return conversionSteps = Collections.singletonList(this);
     }
     
+    /**
+     * Returns the compiled form of this converter, which evaluates it without walking its conversion steps.
+     *
+     * @return the (memoized) compiled form of this converter.
+     * @see CompiledConverter
+     * @since 2.2.5
+     */
+    public final CompiledConverter compile() {
+        if(compiled != null) {
+            return compiled;
+        }
+        return compiled = CompiledConverter.compile(this);
+    }
+    
     // -- CONVERSION CONTRACTS (TO BE IMPLEMENTED BY SUB-CLASSES)
     
     /**
@@ -213,6 +239,22 @@ public abstract class AbstractConverter
      */
     protected abstract Number convertWhenNotIdentity(Number value);
     
+    /**
+     * Non-API
+     * <p>
+     * Primitive counterpart of {@link #convertWhenNotIdentity(Number)}, used by {@link #convert(double)}.
+     * Sub-classes should override this method with an allocation free implementation based on factors
+     * precomputed as primitives, the default falls back to the {@link Number} based conversion.
+     * NaN and infinity propagate as defined by IEEE 754. As intermediate results are rounded to 
+     * {@code double}, the result may differ from the {@link Number} based conversion in the last digits.
+     * </p>
+     * @param value
+     * @return transformed value 
+     */
+    protected double convertWhenNotIdentity(double value) {
+        return convertWhenNotIdentity((Number) value).doubleValue();
+    }
+    
     // -- CONVERSION INTERFACE IMPLEMENTATION (FINAL)
     
     @Override
@@ -220,7 +262,124 @@ public abstract class AbstractConverter
         if(isIdentity()) {
             return value;
         }
-        return convertWhenNotIdentity(value).doubleValue();
+        if(Double.isFinite(value)) {
+            final double result = convertWhenNotIdentity(value);
+            if(Double.isFinite(result)) {
+                return result;
+            }
+        }
+        // let the number system decide on how to handle NaN and infinity
+        return convertWhenNotIdentity((Number) value).doubleValue();
+    }
+    
+    /**
+     * Converts all values of the {@code src} array, storing the results into the {@code dst} array.
+     * <p>
+     * The bulk conversion methods run a single loop over factors precomputed as primitives. Unlike
+     * {@link #convert(double)}, NaN and infinite values are not rejected but propagate as defined by IEEE 754.
+     * </p>
+     *
+     * @param src
+     *            the values to convert.
+     * @param dst
+     *            the array receiving the converted values, may be {@code src} itself.
+     * @throws IndexOutOfBoundsException
+     *             if {@code dst} is shorter than {@code src}.
+     * @since 2.2.5
+     */
+    public final void convert(double[] src, double[] dst) {
+        convert(src, 0, dst, 0, src.length);
+    }
+
+    /**
+     * Converts {@code length} values of the {@code src} array starting at {@code srcPos}, storing the results into
+     * the {@code dst} array starting at {@code dstPos}.
+     *
+     * @param src
+     *            the values to convert.
+     * @param srcPos
+     *            the starting position in {@code src}.
+     * @param dst
+     *            the array receiving the converted values, may overlap with {@code src}.
+     * @param dstPos
+     *            the starting position in {@code dst}.
+     * @param length
+     *            the number of values to convert.
+     * @throws IndexOutOfBoundsException
+     *             if a range falls outside of its array.
+     * @see #convert(double[], double[])
+     * @since 2.2.5
+     */
+    public final void convert(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+        Objects.requireNonNull(src, "src cannot be null");
+        Objects.requireNonNull(dst, "dst cannot be null");
+        if (length < 0 || srcPos < 0 || dstPos < 0 || srcPos > src.length - length || dstPos > dst.length - length) {
+            throw new IndexOutOfBoundsException(String.format("cannot convert %d values from position %d of %d to position %d of %d", 
+                    length, srcPos, src.length, dstPos, dst.length));
+        }
+        if (isIdentity()) {
+            System.arraycopy(src, srcPos, dst, dstPos, length);
+            return;
+        }
+        if (src == dst && dstPos > srcPos && dstPos < srcPos + length) {
+            // a forward sweep would overwrite values not yet converted
+            src = Arrays.copyOfRange(src, srcPos, srcPos + length);
+            srcPos = 0;
+        }
+        convertWhenNotIdentity(src, srcPos, dst, dstPos, length);
+    }
+
+    /**
+     * Converts the remaining values of the {@code src} buffer, putting the results into the {@code dst} buffer.
+     * The positions of both buffers are advanced by the number of values converted.
+     *
+     * @param src
+     *            the values to convert.
+     * @param dst
+     *            the buffer receiving the converted values.
+     * @throws BufferOverflowException
+     *             if {@code dst} has less space remaining than {@code src} has values.
+     * @see #convert(double[], double[])
+     * @since 2.2.5
+     */
+    public final void convert(DoubleBuffer src, DoubleBuffer dst) {
+        final int length = src.remaining();
+        if (dst.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+            convert(src.array(), src.arrayOffset() + src.position(), dst.array(), dst.arrayOffset() + dst.position(), length);
+            src.position(src.position() + length);
+            dst.position(dst.position() + length);
+            return;
+        }
+        final boolean identity = isIdentity();
+        for (int i = 0; i < length; i++) {
+            final double value = src.get();
+            dst.put(identity ? value : convertWhenNotIdentity(value));
+        }
+    }
+    
+    /**
+     * Non-API
+     * <p>
+     * Bulk counterpart of {@link #convertWhenNotIdentity(double)}, with arguments already validated.
+     * Sub-classes should override this method with a single loop over their precomputed factors.
+     * </p>
+     */
+    protected void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[dstPos + i] = convertWhenNotIdentity(src[srcPos + i]);
+        }
+    }
+    
+    /**
+     * Bulk multiplication helper for sub-classes.
+     */
+    static void multiply(double[] src, int srcPos, double[] dst, int dstPos, int length, double factor) {
+        for (int i = 0; i < length; i++) {
+            dst[dstPos + i] = src[srcPos + i] * factor;
+        }
     }
     
     /**
@@ -450,6 +609,18 @@ public abstract class AbstractConverter
             return absLeft.convertWhenNotIdentity(absRight.convertWhenNotIdentity(value));
         }   
         
+        @Override
+        protected double convertWhenNotIdentity(double value) {
+            // evaluates the fused form of all steps, rather than walking the tree of pairs
+            return compile().convertWhenNotIdentity(value);
+        }
+        
+        @Override
+        protected void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+            // single pass over all steps, rather than one sweep per step
+            compile().convertWhenNotIdentity(src, srcPos, dst, dstPos, length);
+        }
+        
         @Override
         public boolean equals(Object obj) {
             if (this == obj) {
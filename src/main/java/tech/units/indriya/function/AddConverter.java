@@ -45,7 +45,7 @@ import tech.uom.lib.common.function.ValueSupplier;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author Werner Keil
  * @author Andi Huber
- * @version 1.2, Jun 21, 2019
+ * @version 1.3, Oct 16, 2026
  */
 public final class AddConverter extends AbstractConverter implements ValueSupplier<Number> {
 
@@ -58,6 +58,11 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
    */
   private final Number offset;
 
+  /**
+   * Holds the offset as {@code double}.
+   */
+  private final transient double doubleOffset;
+
   /**
    * Creates an additive converter having the specified offset.
    *
@@ -66,6 +71,7 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
    */
   public AddConverter(Number offset) {
     this.offset = Calculus.currentNumberSystem().narrow(offset);
+    this.doubleOffset = this.offset.doubleValue();
   }
 
   /**
@@ -108,6 +114,18 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
               .peek();
   }
 
+  @Override
+  protected double convertWhenNotIdentity(double value) {
+      return value + doubleOffset;
+  }
+
+  @Override
+  protected void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+      for (int i = 0; i < length; i++) {
+          dst[dstPos + i] = src[srcPos + i] + doubleOffset;
+      }
+  }
+
   @Override
   public String transformationLiteral() {
     NumberSystem ns = Calculus.currentNumberSystem();
@@ -155,7 +173,7 @@ public final class AddConverter extends AbstractConverter implements ValueSuppli
     return -1;
   }
 
-
-
-
+  private Object readResolve() {
+    return new AddConverter(offset); // restores the transient double offset
+  }
 }
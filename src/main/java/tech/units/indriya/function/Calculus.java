@@ -43,6 +43,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import tech.units.indriya.internal.function.simplify.CompositionCache;
 import tech.units.indriya.spi.NumberSystem;
 
 /**
@@ -100,6 +101,8 @@ public final class Calculus {
      */
     public static void setCurrentNumberSystem(NumberSystem system) {
     	currentSystem = system;
+    	ConverterCache.clear();
+    	CompositionCache.clear();
     }
 
     /**
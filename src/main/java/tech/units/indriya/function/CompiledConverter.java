@@ -0,0 +1,330 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.measure.UnitConverter;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.internal.function.Calculator;
+
+/**
+ * <p>
+ * A {@link UnitConverter} evaluating a composed converter without walking its tree of {@link AbstractConverter.Pair pairs}.
+ * </p>
+ * <p>
+ * If all {@link UnitConverter#getConversionSteps() conversion steps} are {@link MultiplyConverter multiplications} or
+ * {@link AddConverter additions}, they are folded into a single affine function {@code x -> factor * x + offset}.
+ * {@link #convert(Number)} applies the exact factor and offset, while {@link #convert(double)} uses their
+ * {@code double} counterparts and evaluates in constant time. Any other chain (e.g. involving a logarithm) is flattened
+ * into an array of steps, applied in a single loop.
+ * </p>
+ * <p>
+ * Inversion and composition are delegated to the source converter, such that the normal form used to decide on the
+ * equivalence of converters is preserved.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ * @since 2.2.5
+ * @see AbstractConverter#compile()
+ */
+@API(status = EXPERIMENTAL)
+public final class CompiledConverter implements UnitConverter, Serializable {
+
+    private static final long serialVersionUID = 2218466339163284357L;
+
+    /**
+     * Holds the converter this one was compiled from.
+     */
+    private final UnitConverter source;
+
+    private final transient boolean identity;
+
+    /**
+     * Holds the exact factor and offset, both {@code null} unless the source is affine.
+     */
+    private final transient Number factor;
+    private final transient Number offset;
+
+    /**
+     * Holds the factor (as dividend and divisor, see {@link RationalConverter#multiply(double, double, double)}) and
+     * the offset as {@code double}.
+     */
+    private final transient double doubleDividend;
+    private final transient double doubleDivisor;
+    private final transient double doubleOffset;
+
+    /**
+     * Holds the non-identity conversion steps in order of application, {@code null} if the source is affine.
+     */
+    private final transient UnitConverter[] steps;
+
+    private CompiledConverter(UnitConverter source) {
+        this.source = source;
+        this.identity = source.isIdentity();
+        final List<? extends UnitConverter> conversionSteps = source.getConversionSteps();
+        Number a = 1;
+        Number b = 0;
+        boolean affine = true;
+        // steps are listed left to right, hence applied in reverse order
+        for (int i = conversionSteps.size() - 1; i >= 0 && affine; i--) {
+            final UnitConverter step = conversionSteps.get(i);
+            if (step.isIdentity()) {
+                continue;
+            }
+            if (step instanceof MultiplyConverter) {
+                final Number f = ((MultiplyConverter) step).getFactor();
+                a = Calculator.of(a).multiply(f).peek();
+                b = Calculator.of(b).multiply(f).peek();
+            } else if (step instanceof AddConverter) {
+                b = Calculator.of(b).add(((AddConverter) step).getOffset()).peek();
+            } else {
+                affine = false;
+            }
+        }
+        if (affine) {
+            this.factor = a;
+            this.offset = b;
+            if (a instanceof RationalNumber) {
+                this.doubleDividend = RationalConverter.doubleDividendOf((RationalNumber) a);
+                this.doubleDivisor = RationalConverter.doubleDivisorOf((RationalNumber) a);
+            } else {
+                this.doubleDividend = a.doubleValue();
+                this.doubleDivisor = 1.0;
+            }
+            this.doubleOffset = b.doubleValue();
+            this.steps = null;
+        } else {
+            this.factor = null;
+            this.offset = null;
+            this.doubleDividend = 1.0;
+            this.doubleDivisor = 1.0;
+            this.doubleOffset = 0.0;
+            this.steps = conversionSteps.stream()
+                    .filter(step -> !step.isIdentity())
+                    .toArray(UnitConverter[]::new);
+            for (int i = 0, j = steps.length - 1; i < j; i++, j--) {
+                final UnitConverter tmp = steps[i];
+                steps[i] = steps[j];
+                steps[j] = tmp;
+            }
+        }
+    }
+
+    /**
+     * Returns the compiled form of the specified converter.
+     *
+     * @param converter
+     *          the converter to compile.
+     * @return the compiled converter, {@code converter} itself if already compiled.
+     * @throws NullPointerException
+     *           if {@code converter} is {@code null}
+     */
+    public static CompiledConverter of(UnitConverter converter) {
+        Objects.requireNonNull(converter, "Cannot compile converter that is null.");
+        if (converter instanceof CompiledConverter) {
+            return (CompiledConverter) converter;
+        }
+        if (converter instanceof AbstractConverter) {
+            return ((AbstractConverter) converter).compile();
+        }
+        return new CompiledConverter(converter);
+    }
+
+    /**
+     * Non-API, used by {@link AbstractConverter#compile()}.
+     */
+    static CompiledConverter compile(AbstractConverter converter) {
+        return new CompiledConverter(converter);
+    }
+
+    /**
+     * Returns the converter this one was compiled from.
+     *
+     * @return the source converter.
+     */
+    public UnitConverter getSource() {
+        return source;
+    }
+
+    /**
+     * Indicates whether the source converter was folded into a single affine function.
+     *
+     * @return {@code true} if this converter evaluates {@code factor * x + offset}.
+     */
+    public boolean isAffine() {
+        return steps == null;
+    }
+
+    /**
+     * Returns the exact factor of the affine function.
+     *
+     * @return the factor, empty if this converter is not {@link #isAffine() affine}.
+     */
+    public Optional<Number> getFactor() {
+        return Optional.ofNullable(factor);
+    }
+
+    /**
+     * Returns the exact offset of the affine function.
+     *
+     * @return the offset, empty if this converter is not {@link #isAffine() affine}.
+     */
+    public Optional<Number> getOffset() {
+        return Optional.ofNullable(offset);
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return identity;
+    }
+
+    @Override
+    public boolean isLinear() {
+        return source.isLinear();
+    }
+
+    @Override
+    public CompiledConverter inverse() {
+        return of(source.inverse());
+    }
+
+    @Override
+    public CompiledConverter concatenate(UnitConverter converter) {
+        return of(source.concatenate(converter instanceof CompiledConverter 
+                ? ((CompiledConverter) converter).source 
+                : converter));
+    }
+
+    @Override
+    public List<? extends UnitConverter> getConversionSteps() {
+        return source.getConversionSteps();
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the value is <code>null</code>.
+     */
+    @Override
+    public Number convert(Number value) {
+        if (isIdentity()) {
+            return value;
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        if (factor == null) {
+            return source.convert(value);
+        }
+        return Calculator.of(factor)
+                .multiply(value)
+                .add(offset)
+                .peek();
+    }
+
+    @Override
+    public double convert(double value) {
+        if (isIdentity()) {
+            return value;
+        }
+        if (Double.isFinite(value)) {
+            final double result = convertWhenNotIdentity(value);
+            if (Double.isFinite(result)) {
+                return result;
+            }
+        }
+        // let the number system decide on how to handle NaN and infinity
+        return source.convert((Number) value).doubleValue();
+    }
+
+    /**
+     * Non-API, applies this converter as defined by {@link AbstractConverter#convertWhenNotIdentity(double)}.
+     */
+    double convertWhenNotIdentity(double value) {
+        if (steps == null) {
+            return RationalConverter.multiply(value, doubleDividend, doubleDivisor) + doubleOffset;
+        }
+        double result = value;
+        for (UnitConverter step : steps) {
+            result = step instanceof AbstractConverter 
+                    ? ((AbstractConverter) step).convertWhenNotIdentity(result) 
+                    : step.convert(result);
+        }
+        return result;
+    }
+
+    /**
+     * Non-API, applies this converter as defined by
+     * {@link AbstractConverter#convertWhenNotIdentity(double[], int, double[], int, int)}.
+     */
+    void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+        if (steps == null && doubleDivisor == 1.0) {
+            for (int i = 0; i < length; i++) {
+                dst[dstPos + i] = src[srcPos + i] * doubleDividend + doubleOffset;
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            dst[dstPos + i] = convertWhenNotIdentity(src[srcPos + i]);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof CompiledConverter) {
+            return source.equals(((CompiledConverter) obj).source);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return source.toString();
+    }
+
+    private Object readResolve() {
+        return of(source); // restores the transient compiled form
+    }
+}
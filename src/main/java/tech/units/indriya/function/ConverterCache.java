@@ -0,0 +1,211 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Objects;
+
+import javax.measure.Quantity.Scale;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.internal.function.BoundedCache;
+
+/**
+ * Bounded, thread-safe cache of the {@link UnitConverter converters} between pairs of units.
+ * <p>
+ * Building a converter from one unit to another requires walking both units down to their system unit and composing the
+ * resulting converters into normal form. Since the same few unit pairs are typically converted over and over again, the
+ * result is memoized here, keyed by source unit, target unit (both by {@link Object#equals(Object) equality}) and the
+ * {@link Scale} used to build the converter.
+ * </p>
+ * <p>
+ * The cache holds at most {@link #getMaximumSize()} entries. Once this size is exceeded, the least recently used quarter
+ * of the entries is evicted. Setting the maximum size to {@code 0} disables the cache entirely.
+ * </p>
+ * <p>
+ * The cache is cleared whenever the {@link Calculus#setCurrentNumberSystem(tech.units.indriya.spi.NumberSystem) number
+ * system} or the {@link tech.units.indriya.spi.DimensionalModel dimensional model} changes. Code replacing
+ * {@link AbstractConverter#UNIT_COMPOSITION_HANDLER} should call {@link #clear()} as well.
+ * </p>
+ *
+ * @version 1.1, October 17, 2026
+ * @since 2.2.5
+ */
+@API(status = EXPERIMENTAL)
+public final class ConverterCache {
+
+    /**
+     * The default maximum number of cached converters.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final BoundedCache<Key, UnitConverter> cache = new BoundedCache<>(DEFAULT_MAXIMUM_SIZE);
+
+    // this is a utility class, don't instantiate
+    private ConverterCache() {
+    }
+
+    /**
+     * Returns the maximum number of converters held by this cache.
+     *
+     * @return the maximum size, {@code 0} if caching is disabled.
+     */
+    public static int getMaximumSize() {
+        return cache.getMaximumSize();
+    }
+
+    /**
+     * Sets the maximum number of converters held by this cache, evicting entries if the cache currently holds more.
+     *
+     * @param size
+     *          the new maximum size, {@code 0} to disable caching.
+     * @throws IllegalArgumentException
+     *           if {@code size} is negative.
+     */
+    public static void setMaximumSize(int size) {
+        cache.setMaximumSize(size);
+    }
+
+    /**
+     * Indicates whether converters are cached at all.
+     *
+     * @return {@code true} if the maximum size is greater than zero.
+     */
+    public static boolean isEnabled() {
+        return cache.isEnabled();
+    }
+
+    /**
+     * Returns the number of converters currently cached.
+     *
+     * @return the current size.
+     */
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached converters.
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the cached converter from {@code source} to {@code target}.
+     *
+     * @param source
+     *          the unit to convert from.
+     * @param target
+     *          the unit to convert to.
+     * @param sourceScale
+     *          the scale the converter was built for on the source side.
+     * @param targetScale
+     *          the scale the converter was built for on the target side.
+     * @param any
+     *          {@code true} for converters obtained from {@link Unit#getConverterToAny(Unit)}.
+     * @return the cached converter or {@code null} if none (or caching is disabled).
+     */
+    public static UnitConverter get(Unit<?> source, Unit<?> target, Scale sourceScale, Scale targetScale,
+            boolean any) {
+        if (!cache.isEnabled()) {
+            return null;
+        }
+        return cache.get(new Key(source, target, sourceScale, targetScale, any));
+    }
+
+    /**
+     * Caches the converter from {@code source} to {@code target}.
+     *
+     * @param source
+     *          the unit to convert from.
+     * @param target
+     *          the unit to convert to.
+     * @param sourceScale
+     *          the scale the converter was built for on the source side.
+     * @param targetScale
+     *          the scale the converter was built for on the target side.
+     * @param any
+     *          {@code true} for converters obtained from {@link Unit#getConverterToAny(Unit)}.
+     * @param converter
+     *          the converter to cache.
+     * @return the given {@code converter}.
+     */
+    public static UnitConverter put(Unit<?> source, Unit<?> target, Scale sourceScale, Scale targetScale, boolean any,
+            UnitConverter converter) {
+        if (!cache.isEnabled()) {
+            return converter;
+        }
+        return cache.put(new Key(source, target, sourceScale, targetScale, any), converter);
+    }
+
+    private static final class Key {
+        private final Unit<?> source;
+        private final Unit<?> target;
+        private final Scale sourceScale;
+        private final Scale targetScale;
+        private final boolean any;
+        private final int hashCode;
+
+        private Key(Unit<?> source, Unit<?> target, Scale sourceScale, Scale targetScale, boolean any) {
+            this.source = source;
+            this.target = target;
+            this.sourceScale = sourceScale;
+            this.targetScale = targetScale;
+            this.any = any;
+            int h = 31 * source.hashCode() + target.hashCode();
+            h = 31 * h + Objects.hashCode(sourceScale);
+            h = 31 * h + Objects.hashCode(targetScale);
+            this.hashCode = 31 * h + (any ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return any == other.any && sourceScale == other.sourceScale && targetScale == other.targetScale
+                    && source.equals(other.source) && target.equals(other.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -51,9 +51,32 @@ public class DefaultNumberSystem implements NumberSystem {
 
     static final double MAX_LONG_AS_DOUBLE = Long.MAX_VALUE;
     static final double MIN_LONG_AS_DOUBLE = Long.MIN_VALUE;
+    // 2^53, largest magnitude up to which every long is exactly representable as double
+    private static final long MAX_EXACT_LONG_AS_DOUBLE = 1L << 53;
+
+    /**
+     * Range of preallocated boxed {@link Long} results of the {@link Integer}/{@link Long} fast paths,
+     * wider than the range {@link Long#valueOf(long)} caches.
+     */
+    static final int SMALL_LONG_CACHE_MIN = -1024;
+    static final int SMALL_LONG_CACHE_MAX = 4096;
+    private static final Long[] SMALL_LONG_CACHE = new Long[SMALL_LONG_CACHE_MAX - SMALL_LONG_CACHE_MIN + 1];
+    static {
+        for(int i = 0; i < SMALL_LONG_CACHE.length; i++) {
+            SMALL_LONG_CACHE[i] = Long.valueOf(SMALL_LONG_CACHE_MIN + i);
+        }
+    }
 
     /**
      *  In order of increasing number type 'widening'.
+     *  <p>
+     *  Also provides the type specific implementations of the unary operations
+     *  {@link #signum(Number)}, {@link #abs(Number)}, {@link #negate(Number)} and
+     *  {@link #narrow(DefaultNumberSystem, Number)}, such that these are resolved once per operand type
+     *  via {@link #valueOf(Number)} and a {@code switch} table, rather than by a chain of {@code instanceof}
+     *  checks per operation.
+     *  @implNote constants intentionally have no class bodies, which keeps calls on {@link NumberType}
+     *      monomorphic
      */
     private enum NumberType {
 
@@ -61,40 +84,36 @@ public class DefaultNumberSystem implements NumberSystem {
         BYTE_BOXED(true, Byte.class, (byte)1, (byte)0),
         SHORT_BOXED(true, Short.class, (short)1, (short)0),
         INTEGER_BOXED(true, Integer.class, 1, 0),
-        INTEGER_ATOMIC(true, AtomicInteger.class, 1, 0) {
-            @Override boolean isZero(Number number) {
-                return ((AtomicInteger) number).intValue() == 0;
-            }
-        },
+        INTEGER_ATOMIC(true, AtomicInteger.class, 1, 0),
         LONG_BOXED(true, Long.class, 1L, 0L),
-        LONG_ATOMIC(true, AtomicLong.class, 1L, 0) {
-            @Override boolean isZero(Number number) {
-                return ((AtomicLong) number).longValue() == 0L;
-            }
-        },
-        BIG_INTEGER(true, BigInteger.class, BigInteger.ONE, BigInteger.ZERO) {
-            @Override boolean isZero(Number number) {
-                return ((BigInteger) number).signum() == 0;
-            }
-        },
+        LONG_ATOMIC(true, AtomicLong.class, 1L, 0),
+        BIG_INTEGER(true, BigInteger.class, BigInteger.ONE, BigInteger.ZERO),
 
         // rational types
-        RATIONAL(false, RationalNumber.class, RationalNumber.ONE, RationalNumber.ZERO) {
-            @Override boolean isZero(Number number) {
-                return ((RationalNumber) number).signum() == 0;
-            }
-        },
+        RATIONAL(false, RationalNumber.class, RationalNumber.ONE, RationalNumber.ZERO),
 
         // fractional types
         FLOAT_BOXED(false, Float.class, 1.f, 0.f),
         DOUBLE_BOXED(false, Double.class, 1.d, 0.d),
-        BIG_DECIMAL(false, BigDecimal.class, BigDecimal.ONE, BigDecimal.ZERO) {
-            @Override boolean isZero(Number number) {
-                return ((BigDecimal) number).signum() == 0;
-            }
-        },
+        BIG_DECIMAL(false, BigDecimal.class, BigDecimal.ONE, BigDecimal.ZERO),
 
         ;
+
+        /**
+         * Resolves the {@link NumberType} once per {@link Number} class, or {@code null} if not supported.
+         */
+        private static final ClassValue<NumberType> BY_CLASS = new ClassValue<NumberType>() {
+            @Override
+            protected NumberType computeValue(final Class<?> type) {
+                for(NumberType numberType : NumberType.values()) {
+                    if(numberType.type.isAssignableFrom(type)) {
+                        return numberType;
+                    }
+                }
+                return null;
+            }
+        };
+
         private final boolean integerOnly;
         private final Class<? extends Number> type;
         private final Number one;
@@ -123,44 +142,36 @@ public class DefaultNumberSystem implements NumberSystem {
             return type;
         }
 
-        // 'hardcoded' for performance reasons
         static NumberType valueOf(final Number number) {
-            if(number instanceof Long) {
-                return LONG_BOXED;
+            final NumberType numberType = lookup(number);
+            if(numberType == null) {
+                final String msg = String.format("Unsupported number type '%s'",
+                        number.getClass().getName());
+                throw new IllegalArgumentException(msg);
             }
-            if(number instanceof AtomicLong) {
-                return LONG_ATOMIC;
-            }
-            if(number instanceof Integer) {
+            return numberType;
+        }
+
+        /**
+         * @return the {@link NumberType} of given {@code number} or {@code null} if not supported
+         */
+        static NumberType lookup(final Number number) {
+            // 'hardcoded' for performance reasons: exact class checks for the most common types,
+            // which are cheaper than the ClassValue lookup
+            final Class<?> type = number.getClass();
+            if(type == Integer.class) {
                 return INTEGER_BOXED;
             }
-            if(number instanceof AtomicInteger) {
-                return INTEGER_ATOMIC;
-            }
-            if(number instanceof Double) {
+            if(type == Double.class) {
                 return DOUBLE_BOXED;
             }
-            if(number instanceof Short) {
-                return SHORT_BOXED;
-            }
-            if(number instanceof Byte) {
-                return BYTE_BOXED;
-            }
-            if(number instanceof Float) {
-                return FLOAT_BOXED;
-            }
-            if(number instanceof BigDecimal) {
-                return BIG_DECIMAL;
-            }
-            if(number instanceof BigInteger) {
-                return BIG_INTEGER;
+            if(type == Long.class) {
+                return LONG_BOXED;
             }
-            if(number instanceof RationalNumber) {
+            if(type == RationalNumber.class) {
                 return RATIONAL;
             }
-            final String msg = String.format("Unsupported number type '%s'",
-                    number.getClass().getName());
-            throw new IllegalArgumentException(msg);
+            return BY_CLASS.get(type);
         }
 
         /**
@@ -169,8 +180,237 @@ public class DefaultNumberSystem implements NumberSystem {
          * @apiNote For class internal use only,
          *      such that we have control over the number's type that gets passed in.
          */
-        boolean isZero(Number number) {
-            return zero.equals(number);
+        boolean isZero(final Number number) {
+            switch(this) {
+            case INTEGER_ATOMIC:
+                return number.intValue() == 0;
+            case LONG_ATOMIC:
+                return number.longValue() == 0L;
+            case BIG_INTEGER:
+                return ((BigInteger) number).signum() == 0;
+            case RATIONAL:
+                return ((RationalNumber) number).signum() == 0;
+            case BIG_DECIMAL:
+                return ((BigDecimal) number).signum() == 0;
+            default:
+                return zero.equals(number);
+            }
+        }
+
+        /**
+         * @param number - must be of type {@link #getType()}
+         * @see DefaultNumberSystem#signum(Number)
+         */
+        int signum(final Number number) {
+            switch(this) {
+            case BYTE_BOXED:
+            case SHORT_BOXED:
+            case INTEGER_BOXED:
+            case INTEGER_ATOMIC:
+                return Integer.signum(number.intValue());
+            case LONG_BOXED:
+            case LONG_ATOMIC:
+                return Long.signum(number.longValue());
+            case BIG_INTEGER:
+                return ((BigInteger) number).signum();
+            case RATIONAL:
+                return ((RationalNumber) number).signum();
+            case FLOAT_BOXED:
+                return (int)Math.signum((float)number);
+            case DOUBLE_BOXED:
+                return (int)Math.signum((double)number);
+            case BIG_DECIMAL:
+                return ((BigDecimal) number).signum();
+            default:
+                throw new IllegalStateException("unmatched number type " + this);
+            }
+        }
+
+        /**
+         * @param number - must be of type {@link #getType()}
+         * @see DefaultNumberSystem#abs(Number)
+         */
+        Number abs(final Number number) {
+            switch(this) {
+            case BYTE_BOXED:
+            case SHORT_BOXED:
+                return Math.abs(number.intValue()); // widen to int
+            case INTEGER_BOXED:
+            case INTEGER_ATOMIC:
+                return absOfInt(number.intValue());
+            case LONG_BOXED:
+            case LONG_ATOMIC:
+                return absOfLong(number.longValue());
+            case BIG_INTEGER:
+                return ((BigInteger) number).abs();
+            case RATIONAL:
+                return ((RationalNumber) number).abs();
+            case FLOAT_BOXED:
+                return Math.abs((float)number);
+            case DOUBLE_BOXED:
+                return Math.abs((double)number);
+            case BIG_DECIMAL:
+                return ((BigDecimal) number).abs();
+            default:
+                throw new IllegalStateException("unmatched number type " + this);
+            }
+        }
+
+        /**
+         * @param number - must be of type {@link #getType()}
+         * @see DefaultNumberSystem#negate(Number)
+         */
+        Number negate(final Number number) {
+            switch(this) {
+            case BYTE_BOXED:
+            case SHORT_BOXED:
+                return -number.intValue(); // widen to int
+            case INTEGER_BOXED:
+            case INTEGER_ATOMIC:
+                return negateOfInt(number.intValue());
+            case LONG_BOXED:
+            case LONG_ATOMIC:
+                return negateOfLong(number.longValue());
+            case BIG_INTEGER:
+                return ((BigInteger) number).negate();
+            case RATIONAL:
+                return ((RationalNumber) number).negate();
+            case FLOAT_BOXED:
+                return -((float)number);
+            case DOUBLE_BOXED:
+                return -((double)number);
+            case BIG_DECIMAL:
+                return ((BigDecimal) number).negate();
+            default:
+                throw new IllegalStateException("unmatched number type " + this);
+            }
+        }
+
+        /**
+         * @param number - must be of type {@link #getType()}
+         * @see DefaultNumberSystem#narrow(Number)
+         */
+        Number narrow(final DefaultNumberSystem ns, final Number number) {
+            switch(this) {
+            case BYTE_BOXED:
+            case SHORT_BOXED:
+            case INTEGER_BOXED:
+            case INTEGER_ATOMIC:
+                return number;
+            case LONG_BOXED:
+            case LONG_ATOMIC:
+            case BIG_INTEGER:
+                return narrowInteger(number);
+            case RATIONAL:
+                final RationalNumber rational = ((RationalNumber) number);
+                return rational.isInteger()
+                        ? narrowInteger(rational.getDividend()) // divisor is ONE
+                                : number; // cannot narrow to integer;
+            case FLOAT_BOXED:
+            case DOUBLE_BOXED:
+                return narrowDouble(ns, number);
+            case BIG_DECIMAL:
+                return narrowDecimal((BigDecimal) number);
+            default:
+                throw new IllegalStateException("unmatched number type " + this);
+            }
+        }
+
+        // -- TYPE SPECIFIC HELPERS
+
+        private static Number absOfInt(final int intValue) {
+            if(intValue == Integer.MIN_VALUE) {
+                return Math.abs((long) intValue); // widen to long
+            }
+            return Math.abs(intValue);
+        }
+
+        private static Number negateOfInt(final int intValue) {
+            if(intValue == Integer.MIN_VALUE) {
+                return -((long) intValue); // widen to long
+            }
+            return -intValue;
+        }
+
+        private static Number absOfLong(final long longValue) {
+            if(longValue == Long.MIN_VALUE) {
+                return BigInteger.valueOf(longValue).abs(); // widen to BigInteger
+            }
+            return Math.abs(longValue);
+        }
+
+        private static Number negateOfLong(final long longValue) {
+            if(longValue == Long.MIN_VALUE) {
+                return BigInteger.valueOf(longValue).negate(); // widen to BigInteger
+            }
+            return -longValue;
+        }
+
+        /**
+         * @param number - one of {(Atomic)Long, BigInteger}
+         */
+        private static Number narrowInteger(final Number number) {
+
+            final int total_bits_required = bitLengthOfInteger(number);
+
+            // check whether we have enough bits to store the result into an int
+            if(total_bits_required<31) {
+                return number.intValue();
+            }
+
+            // check whether we have enough bits to store the result into a long
+            if(total_bits_required<63) {
+                return number.longValue();
+            }
+
+            return number; // cannot narrow down
+        }
+
+        private static Number narrowDecimal(final BigDecimal decimal) {
+            // educated guess: it is more likely for the given decimal to have fractional parts, than not;
+            // hence in order to avoid the expensive conversion attempt decimal.toBigIntegerExact() below,
+            // we do a less expensive check first
+            if(isFractional(decimal)) {
+                return decimal; // cannot narrow to integer
+            }
+            try {
+                BigInteger integer = decimal.toBigIntegerExact();
+                return narrowInteger(integer);
+            } catch (ArithmeticException e) {
+                return decimal; // cannot narrow to integer (unexpected code reach, due to isFractional(decimal) guard above)
+            }
+        }
+
+        /**
+         * @param number - one of {Double, Float}
+         */
+        private static Number narrowDouble(final DefaultNumberSystem ns, final Number number) {
+
+            //Implementation Note: for performance we stop narrowing down at 'double' or 'integer' level
+
+            final double doubleValue = number.doubleValue();
+            if(!Double.isFinite(doubleValue)) {
+                throw ns.unsupportedNumberValue(doubleValue);
+            }
+            if(doubleValue == 0) {
+                return 0;
+            }
+            if(doubleValue == Math.rint(doubleValue)) { // cheaper than 'doubleValue % 1 == 0'
+                // double represents an integer other than zero
+
+                // narrow to long if possible
+                if(MIN_LONG_AS_DOUBLE <= doubleValue && doubleValue <= MAX_LONG_AS_DOUBLE) {
+                    long longValue = (long) doubleValue;
+
+                    // further narrow to int if possible
+                    if(Integer.MIN_VALUE <= longValue && longValue <= Integer.MAX_VALUE) {
+                        return (int) longValue;
+                    }
+                    return longValue;
+                }
+                return narrowDecimal(BigDecimal.valueOf(doubleValue));
+            }
+            return number;
         }
 
     }
@@ -178,6 +418,10 @@ public class DefaultNumberSystem implements NumberSystem {
     @Override
     public Number add(final Number x, final Number y) {
 
+        if(isIntegerOrLong(x) && isIntegerOrLong(y)) {
+            return addIntegerOrLong(x, y);
+        }
+
         final NumberType type_x = NumberType.valueOf(x);
         final NumberType type_y = NumberType.valueOf(y);
 
@@ -196,6 +440,10 @@ public class DefaultNumberSystem implements NumberSystem {
     @Override
     public Number multiply(final Number x, final Number y) {
 
+        if(isIntegerOrLong(x) && isIntegerOrLong(y)) {
+            return multiplyIntegerOrLong(x, y);
+        }
+
         final NumberType type_x = NumberType.valueOf(x);
         final NumberType type_y = NumberType.valueOf(y);
 
@@ -296,116 +544,29 @@ public class DefaultNumberSystem implements NumberSystem {
 
     @Override
     public int signum(final Number number) {
-        if(number instanceof BigInteger) {
-            return ((BigInteger) number).signum();
-        }
-        if(number instanceof BigDecimal) {
-            return ((BigDecimal) number).signum();
-        }
-        if(number instanceof RationalNumber) {
-            return ((RationalNumber) number).signum();
+        final NumberType numberType = NumberType.lookup(number);
+        if(numberType == null) {
+            throw unsupportedNumberType(number);
         }
-        if(number instanceof Double) {
-            return (int)Math.signum((double)number);
-        }
-        if(number instanceof Float) {
-            return (int)Math.signum((float)number);
-        }
-        if(number instanceof Long || number instanceof AtomicLong) {
-            final long longValue = number.longValue();
-            return Long.signum(longValue);
-        }
-        if(number instanceof Integer || number instanceof AtomicInteger ||
-                number instanceof Short || number instanceof Byte) {
-            final int intValue = number.intValue();
-            return Integer.signum(intValue);
-        }
-        throw unsupportedNumberType(number);
+        return numberType.signum(number);
     }
 
     @Override
     public Number abs(final Number number) {
-        if(number instanceof BigInteger) {
-            return ((BigInteger) number).abs();
-        }
-        if(number instanceof BigDecimal) {
-            return ((BigDecimal) number).abs();
-        }
-        if(number instanceof RationalNumber) {
-            return ((RationalNumber) number).abs();
-        }
-        if(number instanceof Double) {
-            return Math.abs((double)number);
-        }
-        if(number instanceof Float) {
-            return Math.abs((float)number);
-        }
-        if(number instanceof Long || number instanceof AtomicLong) {
-            final long longValue = number.longValue();
-            if(longValue == Long.MIN_VALUE) {
-                return BigInteger.valueOf(longValue).abs(); // widen to BigInteger
-            }
-            return Math.abs(longValue);
-        }
-        if(number instanceof Integer || number instanceof AtomicInteger) {
-            final int intValue = number.intValue();
-            if(intValue == Integer.MIN_VALUE) {
-                return Math.abs(number.longValue()); // widen to long
-            }
-            return Math.abs(intValue);
-        }
-        if(number instanceof Short || number instanceof Byte) {
-            return Math.abs(number.intValue()); // widen to int
+        final NumberType numberType = NumberType.lookup(number);
+        if(numberType == null) {
+            throw unsupportedNumberType(number);
         }
-        throw unsupportedNumberType(number);
+        return numberType.abs(number);
     }
 
     @Override
     public Number negate(final Number number) {
-        if(number instanceof BigInteger) {
-            return ((BigInteger) number).negate();
+        final NumberType numberType = NumberType.lookup(number);
+        if(numberType == null) {
+            throw unsupportedNumberType(number);
         }
-        if(number instanceof BigDecimal) {
-            return ((BigDecimal) number).negate();
-        }
-        if(number instanceof RationalNumber) {
-            return ((RationalNumber) number).negate();
-        }
-        if(number instanceof Double) {
-            return -((double)number);
-        }
-        if(number instanceof Float) {
-            return -((float)number);
-        }
-        if(number instanceof Long || number instanceof AtomicLong) {
-            final long longValue = number.longValue();
-            if(longValue == Long.MIN_VALUE) {
-                return BigInteger.valueOf(longValue).negate(); // widen to BigInteger
-            }
-            return -longValue;
-        }
-        if(number instanceof Integer || number instanceof AtomicInteger) {
-            final int intValue = number.intValue();
-            if(intValue == Integer.MIN_VALUE) {
-                return -number.longValue(); // widen to long
-            }
-            return -intValue;
-        }
-        if(number instanceof Short) {
-            final short shortValue = (short)number;
-            if(shortValue == Short.MIN_VALUE) {
-                return -number.intValue(); // widen to int
-            }
-            return -shortValue;
-        }
-        if(number instanceof Byte) {
-            final short byteValue = (byte)number;
-            if(byteValue == Byte.MIN_VALUE) {
-                return -number.intValue(); // widen to int
-            }
-            return -byteValue;
-        }
-        throw unsupportedNumberType(number);
+        return numberType.negate(number);
     }
 
     @Override
@@ -456,88 +617,12 @@ public class DefaultNumberSystem implements NumberSystem {
 
     @Override
     public Number narrow(final Number number) {
-
-        //Implementation Note: for performance we stop narrowing down at 'double' or 'integer' level
-
-        if(number instanceof Integer || number instanceof AtomicInteger ||
-                number instanceof Short || number instanceof Byte) {
+        final NumberType numberType = NumberType.lookup(number);
+        if(numberType == null) {
+            // for any other number type just do nothing
             return number;
         }
-
-        if(number instanceof Double || number instanceof Float) {
-            final double doubleValue = number.doubleValue();
-            if(!Double.isFinite(doubleValue)) {
-                throw unsupportedNumberValue(doubleValue);
-            }
-            if(doubleValue == 0) {
-                return 0;
-            }
-            if(doubleValue % 1 == 0) {
-                // double represents an integer other than zero
-
-                // narrow to long if possible
-                if(MIN_LONG_AS_DOUBLE <= doubleValue && doubleValue <= MAX_LONG_AS_DOUBLE) {
-                    long longValue = (long) doubleValue;
-
-                    // further narrow to int if possible
-                    if(Integer.MIN_VALUE <= longValue && longValue <= Integer.MAX_VALUE) {
-                        return (int) longValue;
-                    }
-                    return longValue;
-                }
-                return narrow(BigDecimal.valueOf(doubleValue));
-            }
-            return number;
-        }
-
-        if(isIntegerOnly(number)) {
-
-            // number is one of {BigInteger, Long}
-
-            final int total_bits_required = bitLengthOfInteger(number);
-
-            // check whether we have enough bits to store the result into an int
-            if(total_bits_required<31) {
-                return number.intValue();
-            }
-
-            // check whether we have enough bits to store the result into a long
-            if(total_bits_required<63) {
-                return number.longValue();
-            }
-
-            return number; // cannot narrow down
-
-        }
-
-        if(number instanceof BigDecimal) {
-
-            final BigDecimal decimal = (BigDecimal) number;
-            // educated guess: it is more likely for the given decimal to have fractional parts, than not;
-            // hence in order to avoid the expensive conversion attempt decimal.toBigIntegerExact() below,
-            // we do a less expensive check first
-            if(isFractional(decimal)) {
-                return number; // cannot narrow to integer
-            }
-            try {
-                BigInteger integer = decimal.toBigIntegerExact();
-                return narrow(integer);
-            } catch (ArithmeticException e) {
-                return number; // cannot narrow to integer (unexpected code reach, due to isFractional(decimal) guard above)
-            }
-        }
-
-        if(number instanceof RationalNumber) {
-
-            final RationalNumber rational = ((RationalNumber) number);
-
-            return rational.isInteger()
-                    ? narrow(rational.getDividend()) // divisor is ONE
-                            : number; // cannot narrow to integer;
-        }
-
-        // for any other number type just do nothing
-        return number;
+        return numberType.narrow(this, number);
     }
 
     @Override
@@ -654,12 +739,12 @@ public class DefaultNumberSystem implements NumberSystem {
             double doubleValue = number.doubleValue();
             // see https://stackoverflow.com/questions/15963895/how-to-check-if-a-double-value-has-no-decimal-part
             if (numberType.isZero(number)) return false;
-            return doubleValue % 1 == 0;
+            return doubleValue == Math.rint(doubleValue); // cheaper than 'doubleValue % 1 == 0'
         }
         throw unsupportedNumberType(number);
     }
 
-    private int bitLengthOfInteger(final Number number) {
+    private static int bitLengthOfInteger(final Number number) {
         if(number instanceof BigInteger) {
             return ((BigInteger) number).bitLength();
         }
@@ -706,6 +791,82 @@ public class DefaultNumberSystem implements NumberSystem {
         throw unsupportedNumberType(number);
     }
 
+    /**
+     * Whether given {@code number} is exactly of type {@link Integer} or {@link Long}, the operand types
+     * eligible for the overflow-checked fast paths {@link #addIntegerOrLong(Number, Number)} and
+     * {@link #multiplyIntegerOrLong(Number, Number)}.
+     */
+    private static boolean isIntegerOrLong(final Number number) {
+        final Class<?> type = number.getClass();
+        return type == Integer.class || type == Long.class;
+    }
+
+    /**
+     * Fast path of {@link #add(Number, Number)} for {@link Integer} and {@link Long} operands, widening to
+     * {@link BigInteger} only on {@code long} overflow.
+     */
+    private static Number addIntegerOrLong(final Number x, final Number y) {
+
+        final long longX = x.longValue();
+        final long longY = y.longValue();
+
+        // same zero shortcuts as addWideAndNarrow, where 'wide' is the Long operand if types differ
+        final boolean reorder_args = x instanceof Integer && y instanceof Long;
+        if(reorder_args) {
+            if(longY == 0) {
+                return x;
+            } else if(longX == 0) {
+                return y;
+            }
+        } else {
+            if(longX == 0) {
+                return y;
+            } else if(longY == 0) {
+                return x;
+            }
+        }
+
+        // overflow check of Math.addExact, without the cost of throwing on overflow
+        final long sum = longX + longY;
+        if(((longX ^ sum) & (longY ^ sum)) < 0) {
+            return BigInteger.valueOf(longX).add(BigInteger.valueOf(longY));
+        }
+        return boxedLong(sum);
+    }
+
+    /**
+     * Fast path of {@link #multiply(Number, Number)} for {@link Integer} and {@link Long} operands, widening to
+     * {@link BigInteger} only on {@code long} overflow.
+     */
+    private static Number multiplyIntegerOrLong(final Number x, final Number y) {
+
+        final long longX = x.longValue();
+        final long longY = y.longValue();
+
+        // same zero shortcut as multiplyWideAndNarrow
+        if(longX == 0 || longY == 0) {
+            return 0;
+        }
+
+        // overflow check of Math.multiplyExact, without the cost of throwing on overflow
+        final long product = longX * longY;
+        if(((Math.abs(longX) | Math.abs(longY)) >>> 31 != 0)
+                && (product / longY != longX || (longX == Long.MIN_VALUE && longY == -1))) {
+            return BigInteger.valueOf(longX).multiply(BigInteger.valueOf(longY));
+        }
+        return boxedLong(product);
+    }
+
+    /**
+     * Boxes given {@code value}, using preallocated instances for small values.
+     */
+    private static Long boxedLong(final long value) {
+        if(SMALL_LONG_CACHE_MIN <= value && value <= SMALL_LONG_CACHE_MAX) {
+            return SMALL_LONG_CACHE[(int) (value - SMALL_LONG_CACHE_MIN)];
+        }
+        return value;
+    }
+
     private Number addWideAndNarrow(
             final NumberType wideType, final Number wide,
             final NumberType narrowType, final Number narrow) {
@@ -945,6 +1106,20 @@ public class DefaultNumberSystem implements NumberSystem {
             return Double.compare(wide.doubleValue(), narrow.doubleValue());
         }
 
+        if(narrow instanceof Integer || narrow instanceof Short || narrow instanceof Byte
+                || narrow instanceof AtomicInteger
+                || ((narrow instanceof Long || narrow instanceof AtomicLong)
+                        && Math.abs(narrow.longValue()) <= MAX_EXACT_LONG_AS_DOUBLE)) {
+            // 'narrow' converts to double without precision loss, so we can compare without widening to BigDecimal
+            final double doubleValue = wide.doubleValue();
+            if(!Double.isNaN(doubleValue)) {
+                final double narrowAsDouble = narrow.longValue();
+                return doubleValue < narrowAsDouble
+                        ? -1
+                        : doubleValue > narrowAsDouble ? 1 : 0;
+            }
+        }
+
         if(narrow instanceof RationalNumber) {
             //TODO[220] can we do better than that, eg. by converting BigDecimal to RationalNumber
             return BigDecimal.valueOf(wide.doubleValue())
@@ -44,7 +44,7 @@ import tech.units.indriya.internal.function.Calculator;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 2.0, Oct 8, 2020
+ * @version 2.1, Oct 16, 2026
  * @since 1.0
  */
 final class DoubleMultiplyConverter 
@@ -106,6 +106,16 @@ extends AbstractConverter implements MultiplyConverter {
               .multiply(value)
               .peek();
     }
+
+    @Override
+    protected double convertWhenNotIdentity(double value) {
+        return value * doubleFactor;
+    }
+
+    @Override
+    protected void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+        multiply(src, srcPos, dst, dstPos, length, doubleFactor);
+    }
 	
 	@Override
 	public final String transformationLiteral() {
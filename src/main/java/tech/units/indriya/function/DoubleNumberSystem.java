@@ -0,0 +1,213 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.spi.NumberSystem;
+
+/**
+ * {@link NumberSystem} implementation that performs all arithmetic on primitive {@code double}s.
+ * <p>
+ * Any {@link Number} argument is accepted and converted via {@link Number#doubleValue()}, every
+ * {@link Number} result is a {@link Double}. Compared to the {@link DefaultNumberSystem} this trades
+ * exactness (no widening to {@link RationalNumber}, {@link java.math.BigInteger} or
+ * {@link java.math.BigDecimal}) for throughput.
+ * <p>
+ * To use it, call {@code Calculus.setCurrentNumberSystem(Calculus.getNumberSystem(DoubleNumberSystem.class.getName()))}.
+ *
+ * @version 1.0, October 16, 2026
+ * @since 2.2.5
+ */
+@API(status = EXPERIMENTAL)
+public class DoubleNumberSystem implements NumberSystem {
+
+    private static final Double ZERO = 0d;
+    private static final Double ONE = 1d;
+
+    @Override
+    public Number add(final Number x, final Number y) {
+        return x.doubleValue() + y.doubleValue();
+    }
+
+    @Override
+    public Number subtract(final Number x, final Number y) {
+        return x.doubleValue() - y.doubleValue();
+    }
+
+    @Override
+    public Number multiply(final Number x, final Number y) {
+        return x.doubleValue() * y.doubleValue();
+    }
+
+    @Override
+    public Number divide(final Number x, final Number y) {
+        return x.doubleValue() / y.doubleValue();
+    }
+
+    @Override
+    public Number[] divideAndRemainder(final Number x, final Number y, final boolean roundRemainderTowardsZero) {
+
+        final double doubleX = x.doubleValue();
+        final double doubleY = y.doubleValue();
+
+        if(doubleY == 0) {
+            throw new ArithmeticException("division by zero");
+        }
+        if(doubleX == 0) {
+            return new Number[] {ZERO, ZERO};
+        }
+
+        // same sign convention as DefaultNumberSystem: both parts carry the sign of x * y
+        final boolean negative = (doubleX < 0) != (doubleY < 0);
+        final double absX = Math.abs(doubleX);
+        final double absY = Math.abs(doubleY);
+
+        final double quotient = Math.floor(absX / absY);
+        final double remainder = roundRemainderTowardsZero
+                ? Math.floor(absX % absY)
+                : absX % absY;
+
+        return new Number[] {
+                copySignTo(negative, quotient),
+                copySignTo(negative, remainder)};
+    }
+
+    @Override
+    public Number power(final Number number, final int exponent) {
+        final double doubleValue = number.doubleValue();
+        if(exponent == 0) {
+            if(doubleValue == 0) {
+                throw new ArithmeticException("0^0 is not defined");
+            }
+            return ONE; // x^0 == 1, for any x!=0
+        }
+        if(exponent == 1) {
+            return doubleValue; // x^1 == x, for any x
+        }
+        return Math.pow(doubleValue, exponent);
+    }
+
+    @Override
+    public Number reciprocal(final Number number) {
+        return 1d / number.doubleValue();
+    }
+
+    @Override
+    public Number negate(final Number number) {
+        return -number.doubleValue();
+    }
+
+    @Override
+    public int signum(final Number number) {
+        return (int) Math.signum(number.doubleValue());
+    }
+
+    @Override
+    public Number abs(final Number number) {
+        return Math.abs(number.doubleValue());
+    }
+
+    @Override
+    public Number exp(final Number number) {
+        return Math.exp(number.doubleValue());
+    }
+
+    @Override
+    public Number log(final Number number) {
+        return Math.log(number.doubleValue());
+    }
+
+    @Override
+    public Number narrow(final Number number) {
+        final double doubleValue = number.doubleValue();
+        if(!Double.isFinite(doubleValue)) {
+            final String msg = String.format("Unsupported number value '%s' of type '%s' in number system '%s'",
+                    "" + number,
+                    number.getClass(),
+                    this.getClass().getName());
+            throw new IllegalArgumentException(msg);
+        }
+        return number instanceof Double
+                ? number
+                : Double.valueOf(doubleValue);
+    }
+
+    @Override
+    public int compare(final Number x, final Number y) {
+        final double doubleX = x.doubleValue();
+        final double doubleY = y.doubleValue();
+        if(doubleX == doubleY) {
+            return 0; // also treats -0.0 and 0.0 as equal
+        }
+        return Double.compare(doubleX, doubleY);
+    }
+
+    @Override
+    public boolean isZero(final Number number) {
+        return number.doubleValue() == 0;
+    }
+
+    @Override
+    public boolean isOne(final Number number) {
+        return number.doubleValue() == 1;
+    }
+
+    @Override
+    public boolean isLessThanOne(final Number number) {
+        return number.doubleValue() < 1;
+    }
+
+    @Override
+    public boolean isInteger(final Number number) {
+        final double doubleValue = number.doubleValue();
+        return Double.isFinite(doubleValue) && doubleValue % 1 == 0;
+    }
+
+    /**
+     * Numerical equality, other than {@link NumberSystem#equals(Number, Number)} the {@link Number} types of
+     * {@code x} and {@code y} need not match.
+     */
+    @Override
+    public boolean equals(final Number x, final Number y) {
+        return x == y || x.doubleValue() == y.doubleValue();
+    }
+
+    // -- HELPER
+
+    private static Double copySignTo(final boolean negative, final double absValue) {
+        return negative && absValue != 0
+                ? -absValue
+                : absValue;
+    }
+
+}
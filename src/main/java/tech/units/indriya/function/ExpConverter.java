@@ -47,7 +47,7 @@ import tech.uom.lib.common.function.ValueSupplier;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 1.5, Jun 21, 2019
+ * @version 1.6, Oct 16, 2026
  * @since 1.0
  */
 public final class ExpConverter extends AbstractConverter implements ValueSupplier<String> {
@@ -154,6 +154,11 @@ public final class ExpConverter extends AbstractConverter implements ValueSuppli
               .peek();
     }
 
+    @Override
+    protected double convertWhenNotIdentity(double value) {
+        return Math.exp(logOfBase * value);
+    }
+
 	@Override
 	public boolean isLinear() {
 		return false;
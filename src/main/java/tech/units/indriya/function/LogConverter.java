@@ -44,7 +44,7 @@ import tech.uom.lib.common.function.ValueSupplier;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 1.3, Nov 21, 2020
+ * @version 1.4, Oct 16, 2026
  * @since 1.0
  */
 public final class LogConverter extends AbstractConverter implements ValueSupplier<String> { // implements
@@ -139,6 +139,11 @@ public final class LogConverter extends AbstractConverter implements ValueSuppli
               .peek();
     }
 
+    @Override
+    protected double convertWhenNotIdentity(double value) {
+        return Math.log(value) / logOfBase;
+    }
+
 	@Override
 	public boolean isLinear() {
 		return false;
@@ -50,7 +50,7 @@ import tech.uom.lib.common.function.ValueSupplier;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 2.7, October 8, 2020
+ * @version 2.8, October 16, 2026
  * @since 1.0
  */
 public interface MultiplyConverter extends UnitConverter, Converter<Number, Number>, 
@@ -109,6 +109,10 @@ public interface MultiplyConverter extends UnitConverter, Converter<Number, Numb
 			return ofRational((RationalNumber) narrowedFactor);
 		}
 
+		if (narrowedFactor instanceof Double || narrowedFactor instanceof Float) {
+			return of(narrowedFactor.doubleValue());
+		}
+
 		if (ns.isInteger(narrowedFactor)) {
 			if (narrowedFactor instanceof BigInteger) {
 				return ofRational(RationalNumber.ofInteger((BigInteger) narrowedFactor));
@@ -124,10 +128,6 @@ public interface MultiplyConverter extends UnitConverter, Converter<Number, Numb
 			return ofRational(RationalNumber.ofInteger(narrowedFactor.longValue()));
 		}
 
-		if (narrowedFactor instanceof Double || narrowedFactor instanceof Float) {
-			return of(narrowedFactor.doubleValue());
-		}
-
 		if (narrowedFactor instanceof BigDecimal) {
 			BigDecimal decimal = (BigDecimal) narrowedFactor;
 			RationalNumber rational = RationalNumber.of(decimal);
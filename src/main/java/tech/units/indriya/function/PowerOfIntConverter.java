@@ -43,7 +43,7 @@ import tech.uom.lib.common.function.IntExponentSupplier;
  * UnitConverter for numbers in base^exponent representation.
  * @author Andi Huber
  * @author Werner Keil
- * @version 2.0, Oct 8, 2020
+ * @version 2.1, Oct 16, 2026
  * @since 2.0
  */
 // As it's used in the "format" package, we may not be able to make it package-private here
@@ -55,6 +55,8 @@ public final class PowerOfIntConverter extends AbstractConverter
 	private final int exponent;
 	private final int hashCode;
 	private final RationalNumber rationalFactor;
+	private final transient double doubleDividend;
+	private final transient double doubleDivisor;
 
 	/**
 	 * Creates a converter with the specified Prefix.
@@ -96,6 +98,8 @@ public final class PowerOfIntConverter extends AbstractConverter
 		this.exponent = exponent;
 		this.hashCode = Objects.hash(base, exponent);
 		this.rationalFactor = calculateRationalNumberFactor();
+		this.doubleDividend = RationalConverter.doubleDividendOf(rationalFactor);
+		this.doubleDivisor = RationalConverter.doubleDivisorOf(rationalFactor);
 	}
 
 	public int getBase() {
@@ -151,6 +155,20 @@ public final class PowerOfIntConverter extends AbstractConverter
                 .multiply(value)
                 .peek();
     }
+
+    @Override
+    protected double convertWhenNotIdentity(double value) {
+        return RationalConverter.multiply(value, doubleDividend, doubleDivisor);
+    }
+
+    @Override
+    protected void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+        if (doubleDivisor == 1.0) {
+            multiply(src, srcPos, dst, dstPos, length, doubleDividend);
+        } else {
+            super.convertWhenNotIdentity(src, srcPos, dst, dstPos, length);
+        }
+    }
     
 	@Override
 	public boolean equals(Object obj) {
@@ -212,6 +230,12 @@ public final class PowerOfIntConverter extends AbstractConverter
 		return hashCode;
 	}
 
+	// -- SERIALIZATION
+
+	private Object readResolve() {
+		return new PowerOfIntConverter(base, exponent); // restores the transient double factors
+	}
+
 	// -- HELPER
 	
 	private RationalNumber calculateRationalNumberFactor() {
@@ -42,7 +42,7 @@ import tech.uom.lib.common.function.IntExponentSupplier;
  * Pi to the power of an integer exponent (π^exponent).
  * @author Andi Huber
  * @author Werner Keil
- * @version 2.0, Oct 8, 2020
+ * @version 2.1, Oct 16, 2026
  * @since 2.0
  */
 final class PowerOfPiConverter extends AbstractConverter 
@@ -52,7 +52,8 @@ final class PowerOfPiConverter extends AbstractConverter
 	
 	private final int exponent;
 	private final int hashCode;
-	private transient Number scaleFactor;
+	private transient volatile Number scaleFactor;
+	private final transient double doubleFactor;
 
 	/**
      * A converter by Pi to the power of 1.
@@ -74,6 +75,9 @@ final class PowerOfPiConverter extends AbstractConverter
 	protected PowerOfPiConverter(int exponent) {
 		this.exponent = exponent;
 		this.hashCode = Objects.hash(exponent);
+		this.doubleFactor = Calculus.Pi.ofNumDigits(Calculus.DEFAULT_MATH_CONTEXT.getPrecision())
+				.pow(exponent, Calculus.DEFAULT_MATH_CONTEXT)
+				.doubleValue();
 	}
 
 	public int getExponent() {
@@ -102,6 +106,16 @@ final class PowerOfPiConverter extends AbstractConverter
               .peek();
     }
 
+    @Override
+    protected double convertWhenNotIdentity(double value) {
+        return value * doubleFactor;
+    }
+
+    @Override
+    protected void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+        multiply(src, srcPos, dst, dstPos, length, doubleFactor);
+    }
+
 	@Override
 	protected boolean canReduceWith(AbstractConverter that) {
 		return that instanceof PowerOfPiConverter;
@@ -115,8 +129,13 @@ final class PowerOfPiConverter extends AbstractConverter
 	@Override
     public Number getValue() {
 	    
+	    Number result = scaleFactor;
+	    if(result!=null) {
+	        return result; // fast path, lock-free
+	    }
 	    synchronized ($lock1) {
-	       if(scaleFactor==null) {
+	       result = scaleFactor;
+	       if(result==null) {
 	           
 	           int nbrDigits = Calculus.MATH_CONTEXT.getPrecision();
 	           if (nbrDigits == 0) {
@@ -124,13 +143,14 @@ final class PowerOfPiConverter extends AbstractConverter
 	           }
 	           BigDecimal pi = Calculus.Pi.ofNumDigits(nbrDigits);
 	           
-	           scaleFactor = Calculator.of(pi)
+	           result = Calculator.of(pi)
 	                   .power(exponent)
 	                   .peek();
+	           scaleFactor = result;
 	       }
         }
 
-        return scaleFactor;
+        return result;
     }
 
 	@Override
@@ -180,4 +200,8 @@ final class PowerOfPiConverter extends AbstractConverter
 	public double getAsDouble() {
 		return getValue().doubleValue();
 	}  
+
+	private Object readResolve() {
+		return new PowerOfPiConverter(exponent); // restores the transient double factor
+	}
 }
@@ -46,7 +46,7 @@ import tech.units.indriya.internal.function.Calculator;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 2.0, October 8, 2020
+ * @version 2.1, October 16, 2026
  * @since 1.0
  */
 public final class RationalConverter extends AbstractConverter 
@@ -62,6 +62,18 @@ implements MultiplyConverter {
      */
 	private final RationalNumber factor;
 
+	/**
+	 * Holds the scale factor's dividend and divisor as {@code double}, if both are exact; otherwise the
+	 * dividend holds the {@code double} value of the scale factor and the divisor is {@code 1}.
+	 */
+	private final transient double doubleDividend;
+	private final transient double doubleDivisor;
+
+	/**
+	 * Whether the scale factor equals one.
+	 */
+	private final transient boolean identity;
+
 	/**
      * Creates a rational converter with the specified scale factor.
      *
@@ -73,6 +85,9 @@ implements MultiplyConverter {
     RationalConverter(RationalNumber factor) {
         Objects.requireNonNull(factor);
         this.factor = factor;
+        this.doubleDividend = doubleDividendOf(factor);
+        this.doubleDivisor = doubleDivisorOf(factor);
+        this.identity = factor.compareTo(RationalNumber.ONE)==0;
     }
     
 	/**
@@ -89,6 +104,9 @@ implements MultiplyConverter {
 	 */
 	RationalConverter(BigInteger dividend, BigInteger divisor) {
 	    factor = RationalNumber.of(dividend, divisor);
+	    doubleDividend = doubleDividendOf(factor);
+	    doubleDivisor = doubleDivisorOf(factor);
+	    identity = factor.compareTo(RationalNumber.ONE)==0;
 	}
 
 	/**
@@ -103,6 +121,9 @@ implements MultiplyConverter {
 	 */
 	RationalConverter(long dividend, long divisor) {
 	    factor = RationalNumber.of(dividend, divisor);
+	    doubleDividend = doubleDividendOf(factor);
+	    doubleDivisor = doubleDivisorOf(factor);
+	    identity = factor.compareTo(RationalNumber.ONE)==0;
 	}
 
 	/**
@@ -171,10 +192,24 @@ implements MultiplyConverter {
               .multiply(value)
               .peek();
     }
+
+    @Override
+    protected double convertWhenNotIdentity(double value) {
+        return multiply(value, doubleDividend, doubleDivisor);
+    }
+
+    @Override
+    protected void convertWhenNotIdentity(double[] src, int srcPos, double[] dst, int dstPos, int length) {
+        if (doubleDivisor == 1.0) {
+            multiply(src, srcPos, dst, dstPos, length, doubleDividend);
+        } else {
+            super.convertWhenNotIdentity(src, srcPos, dst, dstPos, length);
+        }
+    }
 	
 	@Override
 	public boolean isIdentity() {
-		return factor.compareTo(RationalNumber.ONE)==0;
+		return identity;
 	}
 
 	@Override
@@ -248,8 +283,50 @@ implements MultiplyConverter {
 		return this.getClass().getName().compareTo(o.getClass().getName());
 	}
 
+	// -- SERIALIZATION
+
+	private Object readResolve() {
+		return new RationalConverter(factor); // restores the transient double factors
+	}
+
 	// -- HELPER
 
+	/**
+	 * The largest integer, such that it and all integers of smaller magnitude are exactly representable as {@code double}.
+	 */
+	private static final BigInteger MAX_EXACT_DOUBLE = BigInteger.ONE.shiftLeft(53);
+
+	private static boolean isExactDouble(BigInteger integer) {
+		return integer.abs().compareTo(MAX_EXACT_DOUBLE) <= 0;
+	}
+
+	/**
+	 * Multiplies {@code value} by {@code dividend/divisor}, as precomputed by {@link #doubleDividendOf(RationalNumber)} 
+	 * and {@link #doubleDivisorOf(RationalNumber)}.
+	 */
+	static double multiply(double value, double dividend, double divisor) {
+		if (divisor == 1.0) {
+			return value * dividend;
+		}
+		final double result = value * dividend / divisor;
+		// the intermediate product might overflow or underflow, even though the result would not 
+		return Double.isInfinite(result) || (result == 0.0 && value != 0.0) 
+				? value * (dividend / divisor) 
+				: result;
+	}
+
+	static double doubleDividendOf(RationalNumber factor) {
+		return isExactDouble(factor.getDividend()) && isExactDouble(factor.getDivisor())
+				? factor.getDividend().doubleValue()
+				: factor.doubleValue();
+	}
+
+	static double doubleDivisorOf(RationalNumber factor) {
+		return isExactDouble(factor.getDividend()) && isExactDouble(factor.getDivisor())
+				? factor.getDivisor().doubleValue()
+				: 1.0;
+	}
+
 	private AbstractConverter composeSameType(RationalConverter that) {
 		BigInteger newDividend = this.getDividend().multiply(that.getDividend());
 		BigInteger newDivisor = this.getDivisor().multiply(that.getDivisor());
@@ -29,6 +29,8 @@
  */
 package tech.units.indriya.function;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
@@ -38,12 +40,16 @@ import java.util.Objects;
  * and {@code divisor} being integer numbers.
  * <p>
  * @implSpec
- * This implementation uses {@link BigInteger} to represent 'dividend' and
- * 'divisor'.
+ * This implementation uses two {@code long} values to represent 'dividend' and
+ * 'divisor' as long as both fit, and {@link BigInteger} otherwise. Arithmetic
+ * on the {@code long} representation falls back to {@link BigInteger} whenever
+ * an intermediate result could overflow, so results are exact either way.
+ * Common prefix factors (positive and negative powers of 10 and 2) are shared
+ * instances.
  * 
  * @author Andi Huber
  * @author Werner Keil
- * @version 1.2, June 21, 2019
+ * @version 1.5, October 17, 2026
  * @since 2.0
  */
 public final class RationalNumber extends Number {
@@ -53,13 +59,17 @@ public final class RationalNumber extends Number {
 	private final Object $lock2 = new Object[0]; // serializable lock for 'longValue'
 
 	private final int signum;
-	private final BigInteger absDividend;
-	private final BigInteger absDivisor;
+	private BigInteger absDividend; // lazily created from 'smallDividend' when 'small'
+	private BigInteger absDivisor; // lazily created from 'smallDivisor' when 'small'
 	private final int hashCode;
 	private final boolean isInteger;
 
-	private transient BigDecimal divisionResult;
-	private transient Long longValue;
+	private final transient boolean small;
+	private final transient long smallDividend;
+	private final transient long smallDivisor;
+
+	private transient volatile BigDecimal divisionResult;
+	private transient volatile Long longValue;
 
 	/**
 	 * The default {@code DIVISION_CHARACTER} is ÷ which (on Windows) can by typed
@@ -69,8 +79,8 @@ public final class RationalNumber extends Number {
 	 */
 	public static char DIVISION_CHARACTER = '÷'; // Alt+ 246
 
-	public final static RationalNumber ZERO = ofInteger(BigInteger.ZERO);
-	public final static RationalNumber ONE = ofInteger(BigInteger.ONE);
+	public final static RationalNumber ZERO = new RationalNumber(0, 0L, 1L);
+	public final static RationalNumber ONE = new RationalNumber(1, 1L, 1L);
 
 	/**
 	 * Returns a {@code RationalNumber} with divisor <i>ONE</i>. In other words,
@@ -82,7 +92,10 @@ public final class RationalNumber extends Number {
 	 * @throws NullPointerException - if number is {@code null}
 	 */
 	public static RationalNumber ofInteger(long number) {
-		return ofInteger(BigInteger.valueOf(number));
+		if (number == Long.MIN_VALUE) {
+			return ofInteger(BigInteger.valueOf(number));
+		}
+		return valueOf(Long.signum(number), Math.abs(number), 1L);
 	}
 
 	/**
@@ -96,7 +109,7 @@ public final class RationalNumber extends Number {
 	 */
 	public static RationalNumber ofInteger(BigInteger number) {
 		Objects.requireNonNull(number);
-		return new RationalNumber(number.signum(), number.abs(), BigInteger.ONE);
+		return valueOf(number.signum(), number.abs(), BigInteger.ONE);
 	}
 
 	/**
@@ -109,20 +122,85 @@ public final class RationalNumber extends Number {
 	 * @throws IllegalArgumentException if <code>divisor = 0</code>
 	 */
 	public static RationalNumber of(long dividend, long divisor) {
-		return of(BigInteger.valueOf(dividend), BigInteger.valueOf(divisor));
+		if (dividend == Long.MIN_VALUE || divisor == Long.MIN_VALUE) {
+			return ofBigInteger(BigInteger.valueOf(dividend), BigInteger.valueOf(divisor));
+		}
+		if (divisor == 1L) {
+			return ofInteger(dividend);
+		}
+		if (divisor == 0L) {
+			throw new IllegalArgumentException("cannot initalize a rational number with divisor equal to ZERO");
+		}
+		final int signum = Long.signum(dividend) * Long.signum(divisor);
+		if (signum == 0) {
+			return ZERO;
+		}
+		final long absDividend = Math.abs(dividend);
+		final long absDivisor = Math.abs(divisor);
+
+		// cancel down
+		final long gcd = gcd(absDividend, absDivisor);
+		return valueOf(signum, absDividend / gcd, absDivisor / gcd);
 	}
 	
 	/**
      * Returns a {@code RationalNumber} that represents the given double precision 
      * {@code number}, with an accuracy equivalent to {@link BigDecimal#valueOf(double)}.
+     * <dl>
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>integers below 2^53 and decimals of up to 15 
+     *           significant digits and 18 fractional digits are converted without formatting the number, 
+     *           anything else goes through {@link BigDecimal#valueOf(double)}</dd>
+     * </dl>
      * 
 	 * @param number
 	 */
 	public static RationalNumber of(double number) {
+	    final RationalNumber shortDecimal = ofShortDecimal(number);
+	    if (shortDecimal != null) {
+	        return shortDecimal;
+	    }
 	    final BigDecimal decimalValue = BigDecimal.valueOf(number);
 	    return of(decimalValue);
 	}
 
+	// the value of BigDecimal.valueOf(number), if it has at most 15 significant digits and 18 fractional digits,
+	// null otherwise
+	private static RationalNumber ofShortDecimal(double number) {
+	    if (number == 0) {
+	        return ZERO; // also -0.0
+	    }
+	    final int exponent = Math.getExponent(number);
+	    if (exponent > 52) {
+	        // not below 2^53, NaN or infinite
+	        return null;
+	    }
+	    if (exponent >= 0) {
+	        final long fraction = Double.doubleToRawLongBits(number) & ((1L << (52 - exponent)) - 1);
+	        if (fraction == 0) {
+	            // an integer, which is exactly the shortest decimal representing it
+	            return ofInteger((long) number);
+	        }
+	    }
+	    // no 15 digit decimal within 18 fractional digits can be that small
+	    if (exponent < -64) {
+	        return null;
+	    }
+	    // Decimals of up to 15 significant digits map to distinct doubles, so the first scale with an integer
+	    // dividend that converts back to this number yields the (shortest) decimal BigDecimal.valueOf would.
+	    final double[] powersOfTen = SmallValues.DOUBLE_POWERS_OF_TEN;
+	    for (int scale = 1; scale < powersOfTen.length; scale++) {
+	        final double scaled = number * powersOfTen[scale];
+	        if (Math.abs(scaled) >= MAX_SHORT_DECIMAL) {
+	            return null;
+	        }
+	        final double dividend = Math.rint(scaled);
+	        if (dividend / powersOfTen[scale] == number) {
+	            return of((long) dividend, SmallValues.POWERS_OF_TEN[scale]);
+	        }
+	    }
+	    return null;
+	}
+
 	/**
 	 * Returns a {@code RationalNumber} that represents the given BigDecimal decimalValue.
 	 * 
@@ -138,6 +216,9 @@ public final class RationalNumber extends Number {
         }
         
         final BigInteger dividend = decimalValue.unscaledValue();
+        if (scale < SmallValues.POWERS_OF_TEN.length && dividend.bitLength() < 64) {
+            return of(dividend.longValue(), SmallValues.POWERS_OF_TEN[scale]);
+        }
         final BigInteger divisor = BigInteger.TEN.pow(scale);
         
         return of(dividend, divisor);
@@ -163,6 +244,13 @@ public final class RationalNumber extends Number {
 		Objects.requireNonNull(dividend);
 		Objects.requireNonNull(divisor);
 
+		if (dividend.bitLength() < 64 && divisor.bitLength() < 64) {
+			return of(dividend.longValue(), divisor.longValue());
+		}
+		return ofBigInteger(dividend, divisor);
+	}
+
+	private static RationalNumber ofBigInteger(BigInteger dividend, BigInteger divisor) {
 		if (BigInteger.ONE.equals(divisor)) {
 			return ofInteger(dividend);
 		}
@@ -184,7 +272,29 @@ public final class RationalNumber extends Number {
 
 		// cancel down
 		final BigInteger gcd = absDividend.gcd(absDivisor);
-		return new RationalNumber(signum, absDividend.divide(gcd), absDivisor.divide(gcd));
+		return valueOf(signum, absDividend.divide(gcd), absDivisor.divide(gcd));
+	}
+
+	// expects non-negative dividend and positive divisor, these already canceled down
+	private static RationalNumber valueOf(int signum, BigInteger absDividend, BigInteger absDivisor) {
+		if (absDividend.bitLength() < 64 && absDivisor.bitLength() < 64) {
+			return valueOf(signum, absDividend.longValue(), absDivisor.longValue());
+		}
+		return new RationalNumber(signum, absDividend, absDivisor);
+	}
+
+	// expects non-negative dividend and positive divisor, these already canceled down
+	private static RationalNumber valueOf(int signum, long absDividend, long absDivisor) {
+		if (signum == 0) {
+			return ZERO;
+		}
+		if (signum > 0) {
+			final RationalNumber cached = SmallValues.get(absDividend, absDivisor);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		return new RationalNumber(signum, absDividend, absDivisor);
 	}
 
 	// hidden constructor, that expects non-negative dividend and positive divisor,
@@ -195,6 +305,38 @@ public final class RationalNumber extends Number {
 		this.absDivisor = absDivisor;
 		this.hashCode = Objects.hash(signum, absDividend, absDivisor);
 		this.isInteger = BigInteger.ONE.equals(absDivisor);
+		this.small = false;
+		this.smallDividend = 0L;
+		this.smallDivisor = 0L;
+	}
+
+	// hidden constructor for the long representation, same expectations as above
+	private RationalNumber(int signum, long absDividend, long absDivisor) {
+		this.signum = signum;
+		// same as Objects.hash(signum, BigInteger.valueOf(absDividend), BigInteger.valueOf(absDivisor))
+		this.hashCode = 31 * (31 * (31 + signum) + hash(absDividend)) + hash(absDivisor);
+		this.isInteger = absDivisor == 1L;
+		this.small = true;
+		this.smallDividend = absDividend;
+		this.smallDivisor = absDivisor;
+	}
+
+	private BigInteger absDividend() {
+		BigInteger result = absDividend;
+		if (result == null) {
+			result = BigInteger.valueOf(smallDividend);
+			absDividend = result; // racy but safe, BigInteger is immutable
+		}
+		return result;
+	}
+
+	private BigInteger absDivisor() {
+		BigInteger result = absDivisor;
+		if (result == null) {
+			result = BigInteger.valueOf(smallDivisor);
+			absDivisor = result; // racy but safe, BigInteger is immutable
+		}
+		return result;
 	}
 
 	/**
@@ -206,7 +348,7 @@ public final class RationalNumber extends Number {
 	 * @return sign(a/b) * abs(a), (given rational number a/b)
 	 */
 	public BigInteger getDividend() {
-		return signum < 0 ? absDividend.negate() : absDividend;
+		return signum < 0 ? absDividend().negate() : absDividend();
 	}
 
 	/**
@@ -215,7 +357,7 @@ public final class RationalNumber extends Number {
 	 * @return abs(b), (given rational number a/b)
 	 */
 	public BigInteger getDivisor() {
-		return absDivisor;
+		return absDivisor();
 	}
 
 	/**
@@ -236,21 +378,30 @@ public final class RationalNumber extends Number {
 	/**
 	 * The {@link BigDecimal} representation of this {@code RationalNumber}.
 	 * <dl>
-     * <dt><span class="strong">Implementation Note:</span></dt><dd>the conversion calculation is done lazily and thread-safe</dd>           
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>the conversion calculation is done lazily and thread-safe,
+     * once calculated the result is read without locking</dd>           
      * </dl>
      * @return this {@code RationalNumber} converted to {@link BigDecimal}
 	 *         representation 
 	 */
 	public BigDecimal bigDecimalValue() {
+		BigDecimal result = divisionResult;
+		if (result != null) {
+			return result; // fast path, lock-free
+		}
 		synchronized ($lock1) {
-			if (divisionResult == null) {
-				divisionResult = new BigDecimal(absDividend).divide(new BigDecimal(absDivisor), Calculus.MATH_CONTEXT);
+			result = divisionResult;
+			if (result == null) {
+				result = small
+						? BigDecimal.valueOf(smallDividend).divide(BigDecimal.valueOf(smallDivisor), Calculus.MATH_CONTEXT)
+						: new BigDecimal(absDividend).divide(new BigDecimal(absDivisor), Calculus.MATH_CONTEXT);
 				if (signum < 0) {
-					divisionResult = divisionResult.negate();
+					result = result.negate();
 				}
+				divisionResult = result;
 			}
 		}
-		return divisionResult;
+		return result;
 	}
 
 	/**
@@ -263,10 +414,24 @@ public final class RationalNumber extends Number {
 	public RationalNumber add(RationalNumber that) {
 
 		// a/b + c/d = (ad + bc) / bd
-		BigInteger a = this.absDividend;
-		BigInteger b = this.absDivisor;
-		BigInteger c = that.absDividend;
-		BigInteger d = that.absDivisor;
+		if (this.small && that.small) {
+			final long a = this.smallDividend;
+			final long b = this.smallDivisor;
+			final long c = that.smallDividend;
+			final long d = that.smallDivisor;
+			// both products below 2^62, so their sum cannot overflow either
+			if (bitLength(a) + bitLength(d) <= 62 && bitLength(b) + bitLength(c) <= 62
+					&& bitLength(b) + bitLength(d) <= 63) {
+				final long ad = this.signum < 0 ? -(a * d) : a * d;
+				final long bc = that.signum < 0 ? -(b * c) : b * c;
+				return of(ad + bc, b * d);
+			}
+		}
+
+		BigInteger a = this.absDividend();
+		BigInteger b = this.absDivisor();
+		BigInteger c = that.absDividend();
+		BigInteger d = that.absDivisor();
 
 		if (this.signum < 0) {
 			a = a.negate();
@@ -306,10 +471,23 @@ public final class RationalNumber extends Number {
 		}
 
 		// a/b * c/d = ac / bd
-		final BigInteger a = this.absDividend;
-		final BigInteger b = this.absDivisor;
-		final BigInteger c = that.absDividend;
-		final BigInteger d = that.absDivisor;
+		if (this.small && that.small) {
+			// cancel down crosswise first, then ac/bd is already canceled down
+			final long gcdAD = gcd(this.smallDividend, that.smallDivisor);
+			final long gcdCB = gcd(that.smallDividend, this.smallDivisor);
+			final long a = this.smallDividend / gcdAD;
+			final long b = this.smallDivisor / gcdCB;
+			final long c = that.smallDividend / gcdCB;
+			final long d = that.smallDivisor / gcdAD;
+			if (bitLength(a) + bitLength(c) <= 63 && bitLength(b) + bitLength(d) <= 63) {
+				return valueOf(productSignum, a * c, b * d);
+			}
+		}
+
+		final BigInteger a = this.absDividend();
+		final BigInteger b = this.absDivisor();
+		final BigInteger c = that.absDividend();
+		final BigInteger d = that.absDivisor();
 
 		final BigInteger ac = a.multiply(c);
 		final BigInteger bd = b.multiply(d);
@@ -317,7 +495,7 @@ public final class RationalNumber extends Number {
 		// cancel down
 		final BigInteger gcd = ac.gcd(bd);
 
-		return new RationalNumber(productSignum, ac.divide(gcd), bd.divide(gcd));
+		return valueOf(productSignum, ac.divide(gcd), bd.divide(gcd));
 	}
 
 	/**
@@ -338,7 +516,9 @@ public final class RationalNumber extends Number {
 	 * @return -this
 	 */
 	public RationalNumber negate() {
-		return new RationalNumber(-signum, absDividend, absDivisor);
+		return small
+				? valueOf(-signum, smallDividend, smallDivisor)
+				: new RationalNumber(-signum, absDividend, absDivisor);
 	}
 
 	/**
@@ -348,7 +528,9 @@ public final class RationalNumber extends Number {
 	 * @return 1/this
 	 */
 	public RationalNumber reciprocal() {
-		return new RationalNumber(signum, absDivisor, absDividend);
+		return small
+				? valueOf(signum, smallDivisor, smallDividend)
+				: new RationalNumber(signum, absDivisor, absDividend);
 	}
 
 	/**
@@ -378,9 +560,13 @@ public final class RationalNumber extends Number {
 		}
 
 		if (exponent > 0) {
-			return new RationalNumber(newSignum, absDividend.pow(exponent), absDivisor.pow(exponent));
+			if (small && (long) bitLength(smallDividend) * exponent <= 63
+					&& (long) bitLength(smallDivisor) * exponent <= 63) {
+				return valueOf(newSignum, pow(smallDividend, exponent), pow(smallDivisor, exponent));
+			}
+			return valueOf(newSignum, absDividend().pow(exponent), absDivisor().pow(exponent));
 		} else {
-			return new RationalNumber(newSignum, absDivisor.pow(exponent), absDividend.pow(exponent));
+			return valueOf(newSignum, absDivisor().pow(exponent), absDividend().pow(exponent));
 		}
 
 	}
@@ -392,7 +578,12 @@ public final class RationalNumber extends Number {
 	 * @return {@code abs(this)}
 	 */
 	public RationalNumber abs() {
-		return signum < 0 ? new RationalNumber(1, absDividend, absDivisor) : this;
+		if (signum >= 0) {
+			return this;
+		}
+		return small
+				? valueOf(1, smallDividend, smallDivisor)
+				: new RationalNumber(1, absDividend, absDivisor);
 	}
 
 	/**
@@ -417,15 +608,23 @@ public final class RationalNumber extends Number {
 
 		// a/b > c/d <=> ad > bc
 
-		final BigInteger a = this.absDividend;
-		final BigInteger b = this.absDivisor;
-		final BigInteger c = that.absDividend;
-		final BigInteger d = that.absDivisor;
+		final int absCompare;
+		if (this.small && that.small
+				&& bitLength(this.smallDividend) + bitLength(that.smallDivisor) <= 63
+				&& bitLength(this.smallDivisor) + bitLength(that.smallDividend) <= 63) {
+			absCompare = Long.compare(this.smallDividend * that.smallDivisor,
+					this.smallDivisor * that.smallDividend);
+		} else {
+			final BigInteger a = this.absDividend();
+			final BigInteger b = this.absDivisor();
+			final BigInteger c = that.absDividend();
+			final BigInteger d = that.absDivisor();
 
-		final BigInteger ad = a.multiply(d);
-		final BigInteger bc = b.multiply(c);
+			final BigInteger ad = a.multiply(d);
+			final BigInteger bc = b.multiply(c);
 
-		final int absCompare = ad.compareTo(bc);
+			absCompare = ad.compareTo(bc);
+		}
 
 		return this.signum > 0 ? absCompare : -absCompare;
 	}
@@ -439,15 +638,25 @@ public final class RationalNumber extends Number {
 
 	@Override
 	public long longValue() {
+		if (small) {
+			final long quotient = smallDividend / smallDivisor;
+			return signum < 0 ? -quotient : quotient;
+		}
 		// performance optimized version, rounding mode is FLOOR
 		// equivalent to 'bigDecimalValue().longValue()';
+		Long result = longValue;
+		if (result != null) {
+			return result; // fast path, lock-free
+		}
 		synchronized ($lock2) {
-			if (longValue == null) {
-				longValue = signum() < 0 ? absDividend.negate().divide(absDivisor).longValue()
+			result = longValue;
+			if (result == null) {
+				result = signum() < 0 ? absDividend.negate().divide(absDivisor).longValue()
 						: absDividend.divide(absDivisor).longValue();
+				longValue = result;
 			}
 		}
-		return longValue;
+		return result;
 	}
 
 	@Override
@@ -457,6 +666,10 @@ public final class RationalNumber extends Number {
 
 	@Override
 	public double doubleValue() {
+		if (small && isInteger && smallDividend <= MAX_EXACT_DOUBLE_INTEGER) {
+			// exactly representable, so the same as going through bigDecimalValue()
+			return signum < 0 ? -(double) smallDividend : (double) smallDividend;
+		}
 		return bigDecimalValue().doubleValue();
 	}
 
@@ -473,11 +686,14 @@ public final class RationalNumber extends Number {
 		if (signum == 0) {
 			return "0";
 		}
+		final String dividend = small 
+				? Long.toString(signum < 0 ? -smallDividend : smallDividend) 
+				: getDividend().toString(); // already includes the sign
 		if (isInteger) {
-			return getDividend().toString(); // already includes the sign
+			return dividend;
 		}
 		if (useFractionalRepresentation) {
-			return getDividend().toString() + divisionCharacter + absDivisor;
+			return dividend + divisionCharacter + (small ? Long.toString(smallDivisor) : absDivisor.toString());
 		} else {
 			return String.valueOf(bigDecimalValue());
 		}
@@ -539,6 +755,12 @@ public final class RationalNumber extends Number {
 
         final RationalNumber other = (RationalNumber) x;
         
+        // both are canceled down, so identical parts are always equal
+        if (this.small && other.small && this.signum == other.signum
+                && this.smallDividend == other.smallDividend && this.smallDivisor == other.smallDivisor) {
+            return true;
+        }
+        
 //        // null checks not needed, since the constructor guards against dividend or divisor being null
 //        boolean result = (
 //                this.signum == other.signum &&
@@ -548,6 +770,120 @@ public final class RationalNumber extends Number {
         
         return Objects.equals(this.bigDecimalValue(), other.bigDecimalValue());
     }
-	
 
+	// -- SERIALIZATION
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the serial form always holds the BigInteger representation
+		absDividend();
+		absDivisor();
+		out.defaultWriteObject();
+	}
+
+	private Object readResolve() {
+		return valueOf(signum, absDividend, absDivisor);
+	}
+
+	// -- HELPER
+
+	private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+	private static final double MAX_SHORT_DECIMAL = 1e15;
+
+	private static int bitLength(long nonNegative) {
+		return 64 - Long.numberOfLeadingZeros(nonNegative);
+	}
+
+	// same as BigInteger.valueOf(nonNegative).hashCode()
+	private static int hash(long nonNegative) {
+		return 31 * (int) (nonNegative >>> 32) + (int) nonNegative;
+	}
+
+	// binary gcd of non-negative values
+	private static long gcd(long a, long b) {
+		if (a == 0) {
+			return b;
+		}
+		if (b == 0) {
+			return a;
+		}
+		final int shift = Long.numberOfTrailingZeros(a | b);
+		a >>= Long.numberOfTrailingZeros(a);
+		do {
+			b >>= Long.numberOfTrailingZeros(b);
+			if (a > b) {
+				final long t = b;
+				b = a;
+				a = t;
+			}
+			b -= a;
+		} while (b != 0);
+		return a << shift;
+	}
+
+	// expects the result to fit
+	private static long pow(long base, int exponent) {
+		long result = 1L;
+		while (exponent > 0) {
+			if ((exponent & 1) != 0) {
+				result *= base;
+			}
+			exponent >>= 1;
+			if (exponent > 0) {
+				base *= base;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Shared instances of the positive and negative powers of 10 and 2 that fit the {@code long} representation,
+	 * along with the powers of 10 as {@code long} and {@code double} values.
+	 */
+	private static final class SmallValues {
+		private static final long[] POWERS_OF_TEN = new long[19];
+		private static final double[] DOUBLE_POWERS_OF_TEN = new double[19];
+		private static final RationalNumber[] TEN = new RationalNumber[19];
+		private static final RationalNumber[] TENTH = new RationalNumber[19];
+		private static final RationalNumber[] TWO = new RationalNumber[63];
+		private static final RationalNumber[] HALF = new RationalNumber[63];
+
+		static {
+			long power = 1L;
+			for (int i = 0; i < POWERS_OF_TEN.length; i++, power *= 10) {
+				POWERS_OF_TEN[i] = power;
+				DOUBLE_POWERS_OF_TEN[i] = power; // exact up to 10^22
+				TEN[i] = i == 0 ? ONE : new RationalNumber(1, power, 1L);
+				TENTH[i] = i == 0 ? ONE : new RationalNumber(1, 1L, power);
+			}
+			for (int i = 0; i < TWO.length; i++) {
+				TWO[i] = i == 0 ? ONE : new RationalNumber(1, 1L << i, 1L);
+				HALF[i] = i == 0 ? ONE : new RationalNumber(1, 1L, 1L << i);
+			}
+		}
+
+		// expects a positive value canceled down
+		private static RationalNumber get(long absDividend, long absDivisor) {
+			if (absDivisor == 1L) {
+				return power(absDividend, TWO, TEN);
+			}
+			if (absDividend == 1L) {
+				return power(absDivisor, HALF, TENTH);
+			}
+			return null;
+		}
+
+		private static RationalNumber power(long value, RationalNumber[] powersOfTwo, RationalNumber[] powersOfTen) {
+			if ((value & (value - 1)) == 0) {
+				return powersOfTwo[Long.numberOfTrailingZeros(value)];
+			}
+			if (value % 10 == 0) {
+				for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+					if (POWERS_OF_TEN[i] == value) {
+						return powersOfTen[i];
+					}
+				}
+			}
+			return null;
+		}
+	}
 }
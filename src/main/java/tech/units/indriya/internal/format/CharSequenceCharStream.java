@@ -0,0 +1,195 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import java.io.IOException;
+
+/**
+ * A {@link CharStream} reading directly from a range of a {@link CharSequence}, without any intermediate
+ * {@link java.io.Reader} or character buffer. Line and column numbers are recorded in arrays that are kept and only
+ * grown across {@link #reInit(CharSequence, int, int) reinitialisations}, so a stream reused for short unit strings
+ * does not allocate beyond the token images.
+ *
+ * @version 1.0, October 17, 2026
+ * @since 2.2.5
+ */
+final class CharSequenceCharStream implements CharStream {
+
+  /**
+   * Signals the end of input, shared as it is only ever caught by the token manager.
+   */
+  private static final IOException END_OF_INPUT = new IOException("End of input");
+  static {
+    END_OF_INPUT.setStackTrace(new StackTraceElement[0]);
+  }
+
+  private static final int TAB_SIZE = 8;
+
+  private CharSequence input;
+  private int begin;
+  private int end;
+
+  /** Index of the current character in {@link #input}. */
+  private int pos;
+  private int tokenBegin;
+  /** Highest index whose line and column are recorded. */
+  private int maxRead;
+
+  private int[] bufline = new int[64];
+  private int[] bufcolumn = new int[64];
+  private int line;
+  private int column;
+  private boolean prevCharIsCR;
+  private boolean prevCharIsLF;
+
+  /** Constructor. */
+  CharSequenceCharStream(CharSequence input, int begin, int end) {
+    reInit(input, begin, end);
+  }
+
+  /**
+   * Reinitialise to read the characters of {@code input} from index {@code begin} (inclusive) to {@code end}
+   * (exclusive).
+   */
+  void reInit(CharSequence input, int begin, int end) {
+    this.input = input;
+    this.begin = begin;
+    this.end = end;
+    pos = maxRead = begin - 1;
+    tokenBegin = begin;
+    line = 1;
+    column = 0;
+    prevCharIsLF = prevCharIsCR = false;
+  }
+
+  /** Drops the reference to the input, keeping the buffers for reuse. */
+  void release() {
+    input = null;
+  }
+
+  @Override
+  public char beginToken() throws IOException {
+    tokenBegin = -1;
+    char c = readChar();
+    tokenBegin = pos;
+    return c;
+  }
+
+  @Override
+  public char readChar() throws IOException {
+    if (pos + 1 >= end) {
+      if (tokenBegin == -1)
+        tokenBegin = pos;
+      throw END_OF_INPUT;
+    }
+    final char c = input.charAt(++pos);
+    if (pos > maxRead) {
+      maxRead = pos;
+      updateLineColumn(c);
+    }
+    return c;
+  }
+
+  private void updateLineColumn(char c) {
+    column++;
+
+    if (prevCharIsLF) {
+      prevCharIsLF = false;
+      line += (column = 1);
+    } else if (prevCharIsCR) {
+      prevCharIsCR = false;
+      if (c == '\n') {
+        prevCharIsLF = true;
+      } else
+        line += (column = 1);
+    }
+
+    switch (c) {
+      case '\r':
+        prevCharIsCR = true;
+        break;
+      case '\n':
+        prevCharIsLF = true;
+        break;
+      case '\t':
+        column--;
+        column += (TAB_SIZE - (column % TAB_SIZE));
+        break;
+      default:
+        break;
+    }
+
+    final int i = pos - begin;
+    if (i == bufline.length) {
+      bufline = java.util.Arrays.copyOf(bufline, i * 2);
+      bufcolumn = java.util.Arrays.copyOf(bufcolumn, i * 2);
+    }
+    bufline[i] = line;
+    bufcolumn[i] = column;
+  }
+
+  @Override
+  public void backup(int amount) {
+    pos -= amount;
+  }
+
+  @Override
+  public String getImage() {
+    return input.subSequence(tokenBegin, pos + 1).toString();
+  }
+
+  @Override
+  public int getBeginLine() {
+    return lineAt(tokenBegin);
+  }
+
+  @Override
+  public int getBeginColumn() {
+    return columnAt(tokenBegin);
+  }
+
+  @Override
+  public int getEndLine() {
+    return lineAt(pos);
+  }
+
+  @Override
+  public int getEndColumn() {
+    return columnAt(pos);
+  }
+
+  private int lineAt(int index) {
+    return index < begin ? 0 : bufline[index - begin];
+  }
+
+  private int columnAt(int index) {
+    return index < begin ? 0 : bufcolumn[index - begin];
+  }
+}
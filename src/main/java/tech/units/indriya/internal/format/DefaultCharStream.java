@@ -38,12 +38,12 @@ import org.apiguardian.api.API;
 /**
  * An implementation of interface CharStream, where the stream is assumed to contain only ASCII characters (without Unicode processing).
  *
- * @version 5.4, May 14, 2021
+ * @version 5.5, October 17, 2026
  */
 
 // TODO could we start using JavaCC again here?
 @API(status=INTERNAL)
-final class DefaultCharStream {
+final class DefaultCharStream implements CharStream {
   /** Whether parser is static. */
   public static final boolean staticFlag = false;
   private int bufsize;
@@ -151,7 +151,8 @@ final class DefaultCharStream {
   }
 
   /** Start. */
-  char beginToken() throws java.io.IOException {
+  @Override
+  public char beginToken() throws java.io.IOException {
     tokenBegin = -1;
     char c = readChar();
     tokenBegin = bufpos;
@@ -193,7 +194,8 @@ final class DefaultCharStream {
   }
 
   /** Read a character. */
-  char readChar() throws java.io.IOException {
+  @Override
+  public char readChar() throws java.io.IOException {
     if (inBuf > 0) {
       --inBuf;
 
@@ -213,27 +215,32 @@ final class DefaultCharStream {
   }
 
   /** Get token end column number. */
+  @Override
   public int getEndColumn() {
     return bufcolumn[bufpos];
   }
 
   /** Get token end line number. */
+  @Override
   public int getEndLine() {
     return bufline[bufpos];
   }
 
   /** Get token beginning column number. */
-  int getBeginColumn() {
+  @Override
+  public int getBeginColumn() {
     return bufcolumn[tokenBegin];
   }
 
   /** Get token beginning line number. */
-  int getBeginLine() {
+  @Override
+  public int getBeginLine() {
     return bufline[tokenBegin];
   }
 
   /** Backup a number of characters. */
-  void backup(int amount) {
+  @Override
+  public void backup(int amount) {
 
     inBuf += amount;
     if ((bufpos -= amount) < 0)
@@ -339,7 +346,8 @@ final class DefaultCharStream {
   }
 
   /** Get token literal value. */
-  String getImage() {
+  @Override
+  public String getImage() {
     if (bufpos >= tokenBegin) return new String(buffer, tokenBegin, bufpos - tokenBegin + 1);
     return new String(buffer, tokenBegin, bufsize - tokenBegin) + new String(buffer, 0, bufpos + 1);
   }
@@ -59,11 +59,88 @@ public final class UnitFormatParser implements UnitTokenConstants {
 
   private SymbolMap symbols;
 
+  /**
+   * Parser kept per thread by {@link #parse(SymbolMap, CharSequence, int, int)}.
+   */
+  private static final ThreadLocal<UnitFormatParser> REUSABLE = new ThreadLocal<>();
+
+  /** Whether this parser is currently used by {@link #parse(SymbolMap, CharSequence, int, int)}. */
+  private boolean busy;
+
   public UnitFormatParser(SymbolMap symbols, java.io.Reader in) { // TODO visiblity
     this(in);
     this.symbols = symbols;
   }
 
+  /**
+   * Creates a parser reading the characters of {@code csq} from index {@code start} (inclusive) to {@code end}
+   * (exclusive), without copying them.
+   */
+  public UnitFormatParser(SymbolMap symbols, CharSequence csq, int start, int end) {
+    this(new UnitTokenManager(new CharSequenceCharStream(csq, start, end)));
+    this.symbols = symbols;
+  }
+
+  /**
+   * Parses the unit from the characters of {@code csq} between index {@code start} (inclusive) and {@code end}
+   * (exclusive), using a parser and character stream reused by the calling thread.
+   *
+   * @param symbols
+   *          the symbol map to resolve units and prefixes with.
+   * @param csq
+   *          the characters to parse.
+   * @param start
+   *          the index of the first character to parse.
+   * @param end
+   *          the index after the last character to parse.
+   * @return the parsed unit.
+   * @throws TokenException
+   *           if the characters do not form a valid unit expression.
+   * @since 2.2.5
+   */
+  public static Unit<?> parse(SymbolMap symbols, CharSequence csq, int start, int end) throws TokenException {
+    UnitFormatParser parser = REUSABLE.get();
+    if (parser == null) {
+      parser = new UnitFormatParser(symbols, csq, start, end);
+      REUSABLE.set(parser);
+    } else if (parser.busy) {
+      return new UnitFormatParser(symbols, csq, start, end).parseUnit(); // reentrant call
+    } else {
+      parser.reInit(symbols, csq, start, end);
+    }
+    parser.busy = true;
+    try {
+      return parser.parseUnit();
+    } finally {
+      parser.release();
+    }
+  }
+
+  /** Reinitialise over a new range of characters. */
+  private void reInit(SymbolMap symbols, CharSequence csq, int start, int end) {
+    this.symbols = symbols;
+    ((CharSequenceCharStream) token_source.input_stream).reInit(csq, start, end);
+    token_source.reInit(token_source.input_stream);
+    token = new Token();
+    jj_ntk = -1;
+    jj_gen = 0;
+    jj_gc = 0;
+    for (int i = 0; i < 19; i++)
+      jj_la1[i] = -1;
+    for (int i = 0; i < jj_2_rtns.length; i++)
+      jj_2_rtns[i] = new JJCalls();
+  }
+
+  /** Drops all references to the last input, such that a parser kept per thread does not retain them. */
+  private void release() {
+    busy = false;
+    symbols = null;
+    token = jj_nt = jj_scanpos = jj_lastpos = null;
+    for (int i = 0; i < jj_2_rtns.length; i++)
+      jj_2_rtns[i] = null;
+    ((CharSequenceCharStream) token_source.input_stream).release();
+  }
+
   //
   // Parser productions
   //
@@ -48,7 +48,7 @@ final class UnitTokenManager {
 
   /** Lexer state names. */
   public static final String[] lexStateNames = { "DEFAULT", };
-  protected DefaultCharStream input_stream;
+  protected CharStream input_stream;
   private final int[] jjrounds = new int[15];
   private final int[] jjstateSet = new int[30];
   protected char curChar;
@@ -318,20 +318,20 @@ final class UnitTokenManager {
   }
 
   /** Constructor. */
-  public UnitTokenManager(DefaultCharStream stream) {
+  public UnitTokenManager(CharStream stream) {
     if (DefaultCharStream.staticFlag)
       throw new MeasurementError("ERROR: Cannot use a static CharStream class with a non-static lexical analyzer.");
     input_stream = stream;
   }
 
   /** Constructor. */
-  public UnitTokenManager(DefaultCharStream stream, int lexState) {
+  public UnitTokenManager(CharStream stream, int lexState) {
     this(stream);
     switchTo(lexState);
   }
 
   /** Reinitialise parser. */
-  public void reInit(DefaultCharStream stream) {
+  public void reInit(CharStream stream) {
     jjmatchedPos = jjnewStateCnt = 0;
     input_stream = stream;
     reInitRounds();
@@ -345,7 +345,7 @@ final class UnitTokenManager {
   }
 
   /** Reinitialise parser. */
-  public void reInit(DefaultCharStream stream, int lexState) {
+  public void reInit(CharStream stream, int lexState) {
     reInit(stream);
     switchTo(lexState);
   }
@@ -0,0 +1,248 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apiguardian.api.API;
+
+/**
+ * Bounded, thread-safe map of type K to V, evicting the least recently used entries once full.
+ * <p>
+ * Holds at most {@link #getMaximumSize()} entries. Once this size is exceeded, the least recently used quarter of the
+ * entries is evicted by whichever thread gets there first, while lookups proceed without locking. A maximum size of
+ * {@code 0} disables the cache entirely. Hits, misses (while enabled) and evictions are counted for monitoring.
+ * <p>
+ * Neither keys nor values may be {@code null}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ * @version 1.1, October 17, 2026
+ * @since 2.2.5
+ */
+@API(status = INTERNAL)
+public final class BoundedCache<K, V> {
+
+    private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Logical clock, advanced on every insertion and every hit, stamping the entry inserted or accessed.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private volatile int maximumSize;
+
+    /**
+     * @param maximumSize the initial maximum size, {@code 0} to start out disabled.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     */
+    public BoundedCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries, evicting entries if the cache currently holds more.
+     *
+     * @param size the new maximum size, {@code 0} to disable caching.
+     * @throws IllegalArgumentException if {@code size} is negative.
+     */
+    public void setMaximumSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        maximumSize = size;
+        if (size == 0) {
+            cache.clear();
+        } else {
+            evictIfNecessary();
+        }
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all entries, keeping the statistics.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counts to {@code 0}.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Returns the value cached for {@code key}, counting a hit or miss.
+     *
+     * @return the cached value or {@code null} if none (or caching is disabled).
+     */
+    public V get(K key) {
+        if (maximumSize == 0) {
+            return null;
+        }
+        final Entry<V> entry = cache.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // only advance the clock if the entry is not the most recently used one already, sparing the hottest entry the CAS
+        if (entry.lastAccess != clock.get()) {
+            entry.lastAccess = clock.incrementAndGet();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, unless caching is disabled.
+     *
+     * @return the given {@code value}.
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        if (maximumSize == 0) {
+            return value;
+        }
+        cache.put(key, new Entry<>(value, clock.incrementAndGet()));
+        evictIfNecessary();
+        return value;
+    }
+
+    /**
+     * Removes the entry for {@code key} if it (still) holds this very {@code value}.
+     *
+     * @return {@code true} if the entry was removed.
+     */
+    public boolean remove(K key, V value) {
+        final Entry<V> entry = cache.get(key);
+        return entry != null && entry.value == value && cache.remove(key, entry);
+    }
+
+    private void evictIfNecessary() {
+        final int max = maximumSize;
+        if (cache.size() <= max || !evictionLock.tryLock()) {
+            return; // another thread is already evicting
+        }
+        try {
+            // snapshot the stamps, concurrent hits keep changing them and must not affect the sort order
+            final List<Stamped<K, V>> entries = new ArrayList<>(cache.size());
+            for (Map.Entry<K, Entry<V>> e : cache.entrySet()) {
+                entries.add(new Stamped<>(e.getKey(), e.getValue()));
+            }
+            final int retained = max - max / 4;
+            if (entries.size() <= retained) {
+                return;
+            }
+            entries.sort(Comparator.comparingLong(e -> e.lastAccess));
+            for (int i = 0, n = entries.size() - retained; i < n; i++) {
+                final Stamped<K, V> e = entries.get(i);
+                if (cache.remove(e.key, e.entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache [size=" + size() + ", maximumSize=" + maximumSize + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long lastAccess;
+
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final class Stamped<K, V> {
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastAccess;
+
+        private Stamped(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+}
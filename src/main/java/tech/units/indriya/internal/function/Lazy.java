@@ -39,6 +39,9 @@ import org.apiguardian.api.API;
 /**
  * Holder of an instance of type T, supporting the <em>compute-if-absent</em> idiom in a thread-safe manner.
  * <p>
+ * Once memoized, {@link #get()} is a single volatile read and does not lock; only the (first) computation
+ * synchronizes, such that the {@code supplier} is called at most once per memoization (double-checked locking).
+ * <p>
  * Not serializable!     
  * 
  * @author Andi Huber
@@ -46,45 +49,50 @@ import org.apiguardian.api.API;
  */
 @API(status=INTERNAL)
 public class Lazy<T> {
+    
+    // marker for 'not memoized', allows for memoized null values
+    private static final Object NONE = new Object();
+    
     private final Supplier<? extends T> supplier;
-    private T value;
-    private boolean memorized;
+    private volatile Object value = NONE;
 
     public Lazy(Supplier<? extends T> supplier) {
         this.supplier = Objects.requireNonNull(supplier, "supplier is required");
     }
 
     public boolean isMemorized() {
-        synchronized (this) {
-            return memorized;    
-        }
+        return value != NONE;
     }
 
     public void clear() {
         synchronized (this) {
-            this.memorized = false;
-            this.value = null;
+            this.value = NONE;
         }
     }
 
+    @SuppressWarnings("unchecked")
     public T get() {
+        Object result = value;
+        if(result != NONE) {
+            return (T) result; // fast path, lock-free
+        }
         synchronized (this) {
-            if(memorized) {
-                return value;
+            result = value;
+            if(result == NONE) {
+                result = supplier.get();
+                value = result;
             }
-            memorized = true;
-            return value = supplier.get();    
+            return (T) result;
         }
     }
     
     public void set(T value) {
         synchronized (this) {
-            if(memorized) {
+            if(this.value != NONE) {
                 throw new IllegalStateException(
                         String.format("cannot set value '%s' on Lazy that has already memoized a value", ""+value));
             }
-            memorized = true;
             this.value = value;
         }
     }
-}
\ No newline at end of file
+}
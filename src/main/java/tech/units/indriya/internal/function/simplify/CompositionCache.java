@@ -0,0 +1,205 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function.simplify;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.internal.function.BoundedCache;
+
+/**
+ * Bounded, thread-safe memo of the normal forms computed by {@link UnitCompositionHandlerYieldingNormalForm}.
+ * <p>
+ * Reducing a composition to normal form copies the conversion steps of both converters and repeatedly sorts and
+ * simplifies them until a fixed point is reached. The same (left, right) pairs come up over and over while resolving
+ * units, so the resulting normal form is memoized here, keyed by both converters (by
+ * {@link Object#equals(Object) equality} and in this order, since composition is not commutative in general).
+ * </p>
+ * <p>
+ * The memo holds at most {@link #getMaximumSize()} entries. Once this size is exceeded, the least recently used quarter
+ * of the entries is evicted. Setting the maximum size to {@code 0} disables it entirely. Hits, misses and evictions
+ * are counted for monitoring.
+ * </p>
+ * <p>
+ * The memo is cleared whenever the {@link Calculus#setCurrentNumberSystem(tech.units.indriya.spi.NumberSystem) number
+ * system} changes, as the reduced factors are computed with it.
+ * </p>
+ *
+ * @version 1.1, October 17, 2026
+ * @since 2.2.5
+ */
+@API(status = EXPERIMENTAL)
+public final class CompositionCache {
+
+    /**
+     * The default maximum number of memoized compositions.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final BoundedCache<Key, AbstractConverter> cache = new BoundedCache<>(DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * Counts the lookups made while disabled, which {@link BoundedCache} does not count as misses.
+     */
+    private static final LongAdder bypassed = new LongAdder();
+
+    private CompositionCache() {
+    }
+
+    /**
+     * Returns the maximum number of memoized compositions.
+     *
+     * @return the maximum size, {@code 0} if disabled.
+     */
+    public static int getMaximumSize() {
+        return cache.getMaximumSize();
+    }
+
+    /**
+     * Sets the maximum number of memoized compositions, evicting entries if necessary.
+     *
+     * @param size
+     *          the new maximum size, {@code 0} to disable the memo.
+     * @throws IllegalArgumentException
+     *           if {@code size} is negative.
+     */
+    public static void setMaximumSize(int size) {
+        cache.setMaximumSize(size);
+    }
+
+    /**
+     * Indicates whether compositions are memoized at all.
+     *
+     * @return {@code true} if the maximum size is greater than zero.
+     */
+    public static boolean isEnabled() {
+        return cache.isEnabled();
+    }
+
+    /**
+     * Returns the number of compositions currently memoized.
+     *
+     * @return the current size.
+     */
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all memoized compositions. The statistics are kept.
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of lookups answered from the memo.
+     *
+     * @return the hit count.
+     */
+    public static long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups that had to compute the normal form, including those made while disabled.
+     *
+     * @return the miss count.
+     */
+    public static long getMissCount() {
+        return cache.getMissCount() + bypassed.sum();
+    }
+
+    /**
+     * Returns the number of compositions evicted because the maximum size was exceeded.
+     *
+     * @return the eviction count.
+     */
+    public static long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counts to {@code 0}.
+     */
+    public static void resetStatistics() {
+        cache.resetStatistics();
+        bypassed.reset();
+    }
+
+    static AbstractConverter get(AbstractConverter left, AbstractConverter right) {
+        if (!cache.isEnabled()) {
+            bypassed.increment();
+            return null;
+        }
+        return cache.get(new Key(left, right));
+    }
+
+    static AbstractConverter put(AbstractConverter left, AbstractConverter right, AbstractConverter normalForm) {
+        if (!cache.isEnabled()) {
+            return normalForm;
+        }
+        return cache.put(new Key(left, right), normalForm);
+    }
+
+    private static final class Key {
+        private final AbstractConverter left;
+        private final AbstractConverter right;
+        private final int hashCode;
+
+        private Key(AbstractConverter left, AbstractConverter right) {
+            this.left = left;
+            this.right = right;
+            this.hashCode = 31 * left.hashCode() + right.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                final Key that = (Key) obj;
+                return hashCode == that.hashCode && left.equals(that.left) && right.equals(that.right);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
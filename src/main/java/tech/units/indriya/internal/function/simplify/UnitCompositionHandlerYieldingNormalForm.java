@@ -42,9 +42,13 @@ import tech.units.indriya.function.PowerOfIntConverter;
 /**
  * UnitCompositionHandler yielding a normal-form.
  * A normal-form is required to decide whether two UnitConverters are equivalent.
+ * <p>
+ * Compositions that have to be reduced step by step are memoized in the {@link CompositionCache}, which assumes the
+ * {@code canReduce} and {@code doReduce} functions passed in are those of {@link AbstractConverter}.
+ * </p>
  * 
  * @author Andi Huber
- * @version 1.1
+ * @version 1.2
  * @since 2.0
  */
 public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompositionHandler {
@@ -76,6 +80,11 @@ public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompos
       return doReduce.apply(a, b);
     }
 
+    final AbstractConverter cached = CompositionCache.get(a, b);
+    if(cached != null) {
+      return cached;
+    }
+
     final boolean commutative = a.isLinear() && b.isLinear(); 
     final boolean swap = commutative && !isNormalFormOrderWhenCommutative(a, b);
 
@@ -83,12 +92,12 @@ public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompos
         ? new AbstractConverter.Pair(b, a) 
             : new AbstractConverter.Pair(a, b); 
 
-        return new CompositionTask(
+        return CompositionCache.put(a, b, new CompositionTask(
             this::isNormalFormOrderWhenIdentity,
             this::isNormalFormOrderWhenCommutative,
             canReduce, 
             doReduce)
-            .reduceToNormalForm(nonSimplifiedForm.getConversionSteps());
+            .reduceToNormalForm(nonSimplifiedForm.getConversionSteps()));
 
   }
 
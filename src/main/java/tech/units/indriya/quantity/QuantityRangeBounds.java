@@ -0,0 +1,157 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.spi.NumberSystem;
+
+/**
+ * The bounds of a {@link QuantityRange}, converted once into each unit quantities are checked in.
+ * <p>
+ * For up to {@link #MAXIMUM_UNITS} units, the minimum and maximum are kept in that unit both as the exact
+ * {@link Number} a {@link tech.units.indriya.ComparableQuantity} would compare against and as {@code double}, so
+ * membership checks need neither a unit conversion nor any allocation. The converted bounds are dropped when the
+ * {@link Calculus#currentNumberSystem() current number system} changes.
+ * </p>
+ *
+ * @param <Q> the quantity type of the range.
+ *
+ * @version 1.0, October 17, 2026
+ * @since 2.2.5
+ */
+final class QuantityRangeBounds<Q extends Quantity<Q>> {
+
+    /**
+     * The maximum number of units the bounds are kept in; bounds in further units are converted on every check.
+     */
+    static final int MAXIMUM_UNITS = 8;
+
+    private final Quantity<Q> minimum;
+    private final Quantity<Q> maximum;
+    private volatile Converted converted = new Converted(null, new Entry<?>[0]);
+
+    QuantityRangeBounds(Quantity<Q> minimum, Quantity<Q> maximum) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+    }
+
+    /**
+     * Compares the value of {@code quantity} the way {@link tech.units.indriya.AbstractQuantity#compareTo(Quantity)}
+     * does, against the bounds converted into its unit.
+     */
+    boolean contains(Quantity<Q> quantity) {
+        final NumberSystem numberSystem = Calculus.currentNumberSystem();
+        final Entry<Q> entry = entryFor(quantity.getUnit(), numberSystem);
+        final Number value = quantity.getValue();
+        return (entry.minimum == null || numberSystem.compare(value, entry.minimum) >= 0)
+                && (entry.maximum == null || numberSystem.compare(value, entry.maximum) <= 0);
+    }
+
+    boolean contains(double value, Unit<Q> unit) {
+        return entryFor(unit, Calculus.currentNumberSystem()).contains(value);
+    }
+
+    void contains(double[] values, Unit<Q> unit, BitSet out) {
+        final Entry<Q> entry = entryFor(unit, Calculus.currentNumberSystem());
+        for (int i = 0; i < values.length; i++) {
+            out.set(i, entry.contains(values[i]));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<Q> entryFor(Unit<Q> unit, NumberSystem numberSystem) {
+        Converted current = converted;
+        if (current.numberSystem == numberSystem) {
+            for (Entry<?> entry : current.entries) {
+                if (entry.unit == unit) {
+                    return (Entry<Q>) entry;
+                }
+            }
+            for (Entry<?> entry : current.entries) {
+                if (entry.unit.equals(unit)) {
+                    return (Entry<Q>) entry;
+                }
+            }
+        } else {
+            current = new Converted(numberSystem, new Entry<?>[0]);
+        }
+        final Entry<Q> entry = new Entry<>(unit, convert(minimum, unit), convert(maximum, unit));
+        if (current.entries.length < MAXIMUM_UNITS) {
+            // racy, a concurrently converted unit may get lost and is simply converted again
+            final Entry<?>[] entries = Arrays.copyOf(current.entries, current.entries.length + 1);
+            entries[current.entries.length] = entry;
+            converted = new Converted(numberSystem, entries);
+        }
+        return entry;
+    }
+
+    private static <Q extends Quantity<Q>> Number convert(Quantity<Q> bound, Unit<Q> unit) {
+        if (bound == null) {
+            return null;
+        }
+        return bound.getUnit().equals(unit) ? bound.getValue() : bound.to(unit).getValue();
+    }
+
+    private static final class Converted {
+        private final NumberSystem numberSystem;
+        private final Entry<?>[] entries;
+
+        private Converted(NumberSystem numberSystem, Entry<?>[] entries) {
+            this.numberSystem = numberSystem;
+            this.entries = entries;
+        }
+    }
+
+    private static final class Entry<Q extends Quantity<Q>> {
+        private final Unit<Q> unit;
+        private final Number minimum;
+        private final Number maximum;
+        private final double minimumValue;
+        private final double maximumValue;
+
+        private Entry(Unit<Q> unit, Number minimum, Number maximum) {
+            this.unit = unit;
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.minimumValue = minimum == null ? Double.NEGATIVE_INFINITY : minimum.doubleValue();
+            this.maximumValue = maximum == null ? Double.POSITIVE_INFINITY : maximum.doubleValue();
+        }
+
+        private boolean contains(double value) {
+            return (minimum == null || value >= minimumValue) && (maximum == null || value <= maximumValue);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.apiguardian.api.API;
+
+/**
+ * An index over many {@link QuantityRange} instances, answering which of them contain a quantity or overlap an interval
+ * without checking each range.
+ * <p>
+ * When a range is added, its bounds are converted once into the system unit of the first bounded range and kept as
+ * {@code double} values; a missing minimum or maximum is unbounded. Queries convert their argument into the same unit
+ * and compare as {@code double}, both bounds being inclusive. Unlike {@link QuantityRange#contains(Quantity)}, values
+ * within rounding distance of a bound may therefore be classified differently.
+ * </p>
+ * <p>
+ * The ranges are kept in a persistent interval tree (a treap ordered by the lower bound, augmented with the greatest
+ * upper bound of each subtree). Adding and removing a range takes O(log n) expected time; a query visits O(log n)
+ * nodes per range it reports. Each change publishes a new tree, so queries never block and always see a consistent
+ * snapshot, while changes are serialized.
+ * </p>
+ *
+ * @param <Q> the quantity type of the ranges.
+ *
+ * @version 1.1, October 17, 2026
+ * @since 2.2.5
+ */
+@API(status = EXPERIMENTAL)
+public final class QuantityRangeIndex<Q extends Quantity<Q>> {
+
+    private final Object lock = new Object();
+    private final Map<QuantityRange<Q>, Node<Q>> nodes = new HashMap<>(); // guarded by lock
+    private long sequence; // guarded by lock
+    private volatile Unit<Q> systemUnit;
+    private volatile Node<Q> root;
+
+    /**
+     * Creates an empty index.
+     */
+    public QuantityRangeIndex() {
+    }
+
+    /**
+     * Creates an index over the given ranges.
+     *
+     * @param ranges the ranges to add.
+     * @throws javax.measure.UnconvertibleException if the ranges are not in compatible units.
+     */
+    public QuantityRangeIndex(Collection<? extends QuantityRange<Q>> ranges) {
+        for (QuantityRange<Q> range : ranges) {
+            add(range);
+        }
+    }
+
+    /**
+     * Adds the given range, unless an equal range is already indexed.
+     *
+     * @param range the range to add.
+     * @return {@code true} if the range was added.
+     * @throws javax.measure.UnconvertibleException if the range is not in a unit compatible with the indexed ranges.
+     * @throws IllegalArgumentException if the range is bounded by {@code NaN}.
+     */
+    public boolean add(QuantityRange<Q> range) {
+        Objects.requireNonNull(range);
+        synchronized (lock) {
+            if (nodes.containsKey(range)) {
+                return false;
+            }
+            if (systemUnit == null && (range.hasMinimum() || range.hasMaximum())) {
+                final Quantity<Q> bound = range.hasMinimum() ? range.getMinimum() : range.getMaximum();
+                systemUnit = bound.getUnit().getSystemUnit();
+            }
+            final double low = range.hasMinimum() ? toSystemUnit(range.getMinimum()) : Double.NEGATIVE_INFINITY;
+            final double high = range.hasMaximum() ? toSystemUnit(range.getMaximum()) : Double.POSITIVE_INFINITY;
+            if (Double.isNaN(low) || Double.isNaN(high)) {
+                throw new IllegalArgumentException("cannot index a range bounded by NaN: " + range);
+            }
+            final Node<Q> node = new Node<>(range, low, high, sequence++, null, null);
+            nodes.put(range, node);
+            root = insert(root, node);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the given range (or one equal to it).
+     *
+     * @param range the range to remove.
+     * @return {@code true} if the range was indexed.
+     */
+    public boolean remove(QuantityRange<Q> range) {
+        synchronized (lock) {
+            final Node<Q> node = nodes.remove(range);
+            if (node == null) {
+                return false;
+            }
+            root = remove(root, node);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of indexed ranges.
+     *
+     * @return the number of ranges.
+     */
+    public int size() {
+        synchronized (lock) {
+            return nodes.size();
+        }
+    }
+
+    /**
+     * Indicates whether no range is indexed.
+     *
+     * @return {@code true} if the index is empty.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the ranges containing the given quantity, ordered by their minimum.
+     *
+     * @param quantity the quantity to look up.
+     * @return the ranges containing {@code quantity}, possibly empty.
+     */
+    public List<QuantityRange<Q>> findContaining(Quantity<Q> quantity) {
+        return findContaining(quantity.getValue().doubleValue(), quantity.getUnit());
+    }
+
+    /**
+     * Returns the ranges containing the given value, ordered by their minimum.
+     *
+     * @param value the value to look up.
+     * @param unit  the unit of {@code value}.
+     * @return the ranges containing {@code value}, possibly empty.
+     */
+    public List<QuantityRange<Q>> findContaining(double value, Unit<Q> unit) {
+        final List<QuantityRange<Q>> result = new ArrayList<>();
+        forEachContaining(value, unit, result::add);
+        return result;
+    }
+
+    /**
+     * Performs the given action for each range containing the given value, ordered by their minimum.
+     *
+     * @param value  the value to look up.
+     * @param unit   the unit of {@code value}.
+     * @param action the action to perform.
+     */
+    public void forEachContaining(double value, Unit<Q> unit, Consumer<? super QuantityRange<Q>> action) {
+        Objects.requireNonNull(action);
+        final Node<Q> snapshot = root;
+        if (snapshot != null) {
+            final double x = toSystemUnit(value, unit);
+            forEachOverlapping(snapshot, x, x, action);
+        }
+    }
+
+    /**
+     * Returns the ranges overlapping the interval from {@code from} to {@code to} (both inclusive), ordered by their
+     * minimum.
+     *
+     * @param from the lower end of the interval.
+     * @param to   the upper end of the interval.
+     * @return the ranges overlapping the interval, possibly empty.
+     */
+    public List<QuantityRange<Q>> findOverlapping(Quantity<Q> from, Quantity<Q> to) {
+        final List<QuantityRange<Q>> result = new ArrayList<>();
+        final Node<Q> snapshot = root;
+        if (snapshot != null) {
+            forEachOverlapping(snapshot, toSystemUnit(from.getValue().doubleValue(), from.getUnit()),
+                    toSystemUnit(to.getValue().doubleValue(), to.getUnit()), result::add);
+        }
+        return result;
+    }
+
+    private double toSystemUnit(Quantity<Q> quantity) {
+        return quantity.getUnit().getConverterTo(systemUnit).convert(quantity.getValue()).doubleValue();
+    }
+
+    private double toSystemUnit(double value, Unit<Q> unit) {
+        final Unit<Q> target = systemUnit;
+        // without a system unit, only unbounded ranges are indexed and any value will do
+        return target == null ? value : unit.getConverterTo(target).convert(value);
+    }
+
+    // -- INTERVAL TREE
+
+    private static <Q extends Quantity<Q>> void forEachOverlapping(Node<Q> node, double from, double to,
+            Consumer<? super QuantityRange<Q>> action) {
+        while (node != null && node.maxHigh >= from) { // otherwise no range in this subtree reaches 'from'
+            forEachOverlapping(node.left, from, to, action);
+            if (node.low > to) {
+                return; // neither this node nor any on its right starts at or before 'to'
+            }
+            if (node.high >= from) {
+                action.accept(node.range);
+            }
+            node = node.right;
+        }
+    }
+
+    private static <Q extends Quantity<Q>> Node<Q> insert(Node<Q> node, Node<Q> leaf) {
+        if (node == null) {
+            return leaf;
+        }
+        if (leaf.priority > node.priority) {
+            final Node<Q>[] split = split(node, leaf);
+            return leaf.with(split[0], split[1]);
+        }
+        return leaf.compareTo(node) < 0 ? node.with(insert(node.left, leaf), node.right)
+                : node.with(node.left, insert(node.right, leaf));
+    }
+
+    private static <Q extends Quantity<Q>> Node<Q> remove(Node<Q> node, Node<Q> removed) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = removed.compareTo(node);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        return comparison < 0 ? node.with(remove(node.left, removed), node.right)
+                : node.with(node.left, remove(node.right, removed));
+    }
+
+    // splits into the nodes ordered before 'key' and the others
+    private static <Q extends Quantity<Q>> Node<Q>[] split(Node<Q> node, Node<Q> key) {
+        if (node == null) {
+            @SuppressWarnings("unchecked")
+            final Node<Q>[] split = (Node<Q>[]) new Node<?>[2];
+            return split;
+        }
+        if (node.compareTo(key) < 0) {
+            final Node<Q>[] split = split(node.right, key);
+            split[0] = node.with(node.left, split[0]);
+            return split;
+        }
+        final Node<Q>[] split = split(node.left, key);
+        split[1] = node.with(split[1], node.right);
+        return split;
+    }
+
+    // expects all nodes of 'left' to be ordered before those of 'right'
+    private static <Q extends Quantity<Q>> Node<Q> merge(Node<Q> left, Node<Q> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        return left.priority > right.priority ? left.with(left.left, merge(left.right, right))
+                : right.with(merge(left, right.left), right.right);
+    }
+
+    private static final class Node<Q extends Quantity<Q>> {
+        private final QuantityRange<Q> range;
+        private final double low;
+        private final double high;
+        private final long id;
+        private final int priority;
+        private final Node<Q> left;
+        private final Node<Q> right;
+        private final double maxHigh;
+
+        private Node(QuantityRange<Q> range, double low, double high, long id, Node<Q> left, Node<Q> right) {
+            this.range = range;
+            this.low = low;
+            this.high = high;
+            this.id = id;
+            this.priority = mix(id);
+            this.left = left;
+            this.right = right;
+            double max = high;
+            if (left != null) {
+                max = Math.max(max, left.maxHigh);
+            }
+            if (right != null) {
+                max = Math.max(max, right.maxHigh);
+            }
+            this.maxHigh = max;
+        }
+
+        private Node<Q> with(Node<Q> left, Node<Q> right) {
+            return new Node<>(range, low, high, id, left, right);
+        }
+
+        private int compareTo(Node<Q> that) {
+            final int comparison = Double.compare(low, that.low);
+            return comparison != 0 ? comparison : Long.compare(id, that.id);
+        }
+
+        // pseudo-random but deterministic priority, keeping the treap balanced in expectation
+        private static int mix(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 32;
+            h *= 0xBF58476D1CE4E5B9L;
+            return (int) (h ^ (h >>> 29));
+        }
+    }
+}
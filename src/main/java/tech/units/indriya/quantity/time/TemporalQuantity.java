@@ -60,7 +60,7 @@ import tech.units.indriya.unit.Units;
  * @author Werner Keil
  * @author Filip van Laenen
  * @author Andi Huber
- * @version 1.3, Jun 4, 2019
+ * @version 1.4, Oct 16, 2026
  * @since 1.0
  */
 public final class TemporalQuantity extends AbstractQuantity<Time> {
@@ -71,7 +71,7 @@ public final class TemporalQuantity extends AbstractQuantity<Time> {
   
   private final TemporalUnit timeUnit;
   private final Number value;
-  private transient TemporalAmount amount;
+  private transient volatile TemporalAmount amount;
 
   /**
    * creates the {@link TemporalQuantity} using {@link TemporalUnit} and {@link Number}
@@ -118,8 +118,13 @@ public final class TemporalQuantity extends AbstractQuantity<Time> {
    * @throws ArithmeticException when the {@code value} of this {@code TemporalQuantity} cannot be converted to long
    */
   public TemporalAmount getTemporalAmount() {
+    TemporalAmount result = amount;
+    if(result!=null) {
+        return result; // fast path, lock-free
+    }
     synchronized ($lock1) {
-        if(amount==null) {
+        result = amount;
+        if(result==null) {
             
             long longValue = value.longValue();
             
@@ -133,11 +138,11 @@ public final class TemporalQuantity extends AbstractQuantity<Time> {
                 String msg = String.format("cannot round number %s to long", "" + value);
                 throw new ArithmeticException(msg);
             }
-            amount = Duration.of(longValue, timeUnit);
-            
+            result = Duration.of(longValue, timeUnit);
+            amount = result;
         }
     }
-    return amount;
+    return result;
   }
 
   /**
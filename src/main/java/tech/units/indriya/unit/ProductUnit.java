@@ -34,19 +34,21 @@ import static javax.measure.Quantity.Scale.RELATIVE;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import javax.measure.Dimension;
 import javax.measure.Quantity;
+import javax.measure.Quantity.Scale;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
 
 import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.function.Calculus;
 import tech.units.indriya.internal.function.Lazy;
+import tech.units.indriya.spi.NumberSystem;
 
 /**
  * <p>
@@ -64,7 +66,7 @@ import tech.units.indriya.internal.function.Lazy;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 2.1, September 30, 2024
+ * @version 2.5, October 17, 2026
  * @since 1.0
  */
 public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
@@ -83,6 +85,16 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
      */
     private final Element[] elements;
 
+    /**
+     * Holds the dimension, computed once.
+     */
+    private transient volatile Dimension dimension;
+
+    /**
+     * Holds the system converters in the absolute and relative scale, each computed once per number system.
+     */
+    private transient volatile SystemConverterMemo absoluteSystemConverter, relativeSystemConverter;
+
     /**
      * DefaultQuantityFactory constructor (used solely to create <code>ONE</code> instance).
      */
@@ -283,16 +295,18 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
             return true;
         }
         if (obj instanceof ProductUnit<?>) {
-            final ProductUnit<?> other = ((ProductUnit<?>) obj); 
-            return ElementUtil.arrayEqualsArbitraryOrder(this.elements, other.elements);
+            final ProductUnit<?> other = ((ProductUnit<?>) obj);
+            // differing hash codes rule out most unequal products cheaply
+            return this.hashCode() == other.hashCode()
+                    && ElementUtil.arrayEqualsArbitraryOrder(this.elements, other.elements);
         }
         return false;
     }
 
-    // thread safe cache for the expensive hashCode calculation 
+    // thread safe cache for the hashCode calculation 
     private transient Lazy<Integer> hashCode = new Lazy<>(this::calculateHashCode); 
     private int calculateHashCode() {
-        return Objects.hash((Object[]) ElementUtil.copyAndSort(elements));
+        return ElementUtil.hashArbitraryOrder(elements);
     }
     
     @Override
@@ -315,6 +329,28 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
     @Override
     public UnitConverter getSystemConverter() {
+        return getSystemConverter(scale);
+    }
+
+    @Override
+    protected UnitConverter getSystemConverter(Scale scale) {
+        final boolean relative = RELATIVE.equals(scale);
+        final NumberSystem numberSystem = Calculus.currentNumberSystem();
+        UnitConverter converter = SystemConverterMemo.get(relative ? relativeSystemConverter : absoluteSystemConverter,
+                numberSystem);
+        if (converter == null) {
+            converter = calculateSystemConverter(scale);
+            final SystemConverterMemo memo = new SystemConverterMemo(numberSystem, converter);
+            if (relative) {
+                relativeSystemConverter = memo;
+            } else {
+                absoluteSystemConverter = memo;
+            }
+        }
+        return converter;
+    }
+
+    private UnitConverter calculateSystemConverter(Scale scale) {
         UnitConverter converter = AbstractConverter.IDENTITY;
         for (Element e : elements) {
             if (e.unit instanceof AbstractUnit) {
@@ -341,6 +377,15 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
     @Override
     public Dimension getDimension() {
+        Dimension result = dimension;
+        if (result == null) {
+            result = calculateDimension();
+            dimension = result;
+        }
+        return result;
+    }
+
+    private Dimension calculateDimension() {
         Dimension dimension = UnitDimension.NONE;
         for (int i = 0; i < this.getUnitCount(); i++) {
             Unit<?> unit = this.getUnit(i);
@@ -515,34 +560,21 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
         @Override
         public int hashCode() {
-            return Objects.hash(unit, pow, root);
+            return (31 * (31 * (31 + unit.hashCode()) + pow)) + root; // as Objects.hash(unit, pow, root), without boxing
         }
     }
 
     // Element specific algorithms provided locally to this class
     private final static class ElementUtil {
-        
-        // -- returns a defensive sorted copy, unless size <= 1 
-        private static Element[] copyAndSort(final Element[] elements) {
-            if (elements == null || elements.length <= 1) {
-                return elements;
-            }
-            final Element[] elementsSorted = Arrays.copyOf(elements, elements.length);
-            Arrays.sort(elementsSorted, ElementUtil::compare);
-            return elementsSorted;
-        }
-        
-        private static int compare(final Element e0, final Element e1) {
-            final Unit<?> sysUnit0 = e0.getUnit().getSystemUnit();
-            final Unit<?> sysUnit1 = e1.getUnit().getSystemUnit();
-            final String symbol0 = sysUnit0.getSymbol();
-            final String symbol1 = sysUnit1.getSymbol();
-            
-            if (symbol0 != null && symbol1 != null) {
-                return symbol0.compareTo(symbol1);
-            } else {
-                return sysUnit0.toString().compareTo(sysUnit1.toString());
+
+        // -- a hash code independent of the order of the elements
+        private static int hashArbitraryOrder(final Element[] elements) {
+            int hash = elements.length;
+            for (Element element : elements) {
+                final int h = element.hashCode() * 0x9E3779B9;
+                hash += h ^ (h >>> 16);
             }
+            return hash;
         }
         
         // optimized for the fact, that can only return true, if for each element in e0 there exist a single match in e1
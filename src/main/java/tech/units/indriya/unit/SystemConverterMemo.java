@@ -0,0 +1,65 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.unit;
+
+import javax.measure.UnitConverter;
+
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.spi.NumberSystem;
+
+/**
+ * A system converter memoized together with the {@link NumberSystem} it was built with. Converters compute their
+ * factors with the {@link Calculus#currentNumberSystem() current number system}, so a memo built with another one is
+ * stale, like the entries {@link Calculus#setCurrentNumberSystem(NumberSystem)} clears from the converter cache.
+ *
+ * @version 1.0, October 17, 2026
+ * @since 2.2.5
+ */
+final class SystemConverterMemo {
+    private final NumberSystem numberSystem;
+    private final UnitConverter converter;
+
+    /**
+     * @param numberSystem the number system current when {@code converter} started being built.
+     * @param converter the system converter.
+     */
+    SystemConverterMemo(NumberSystem numberSystem, UnitConverter converter) {
+        this.numberSystem = numberSystem;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns the memoized converter, or {@code null} if there is none or it was built with another number system than
+     * the given, current one.
+     */
+    static UnitConverter get(SystemConverterMemo memo, NumberSystem current) {
+        return memo != null && memo.numberSystem == current ? memo.converter : null;
+    }
+}
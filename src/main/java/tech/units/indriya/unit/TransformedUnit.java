@@ -38,6 +38,8 @@ import javax.measure.Unit;
 import javax.measure.UnitConverter;
 
 import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.spi.NumberSystem;
 import tech.uom.lib.common.function.UnitConverterSupplier;
 
 /**
@@ -67,7 +69,7 @@ import tech.uom.lib.common.function.UnitConverterSupplier;
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.0, March 1, 2020
+ * @version 2.2, October 17, 2026
  * @since 1.0
  */
 public final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> implements UnitConverterSupplier {
@@ -92,6 +94,11 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q
    */
   private final UnitConverter converter;
 
+  /**
+   * Holds the converter to the system unit, computed once per number system.
+   */
+  private transient volatile SystemConverterMemo systemConverter;
+
   /**
    * Creates a transformed unit from the specified system unit. using the parent as symbol
    * 
@@ -192,7 +199,13 @@ public final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q
 
   @Override
   public UnitConverter getSystemConverter() {
-    return parentUnit.getSystemConverter().concatenate(converter);
+    final NumberSystem numberSystem = Calculus.currentNumberSystem();
+    UnitConverter result = SystemConverterMemo.get(systemConverter, numberSystem);
+    if (result == null) {
+      result = parentUnit.getSystemConverter().concatenate(converter);
+      systemConverter = new SystemConverterMemo(numberSystem, result);
+    }
+    return result;
   }
 
   /**
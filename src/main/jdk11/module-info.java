@@ -52,7 +52,8 @@ module tech.units.indriya {
     provides javax.measure.spi.SystemOfUnitsService with
     	tech.units.indriya.unit.DefaultSystemOfUnitsService;    
     provides tech.units.indriya.spi.NumberSystem with
-    	tech.units.indriya.function.DefaultNumberSystem;
+    	tech.units.indriya.function.DefaultNumberSystem,
+    	tech.units.indriya.function.DoubleNumberSystem;
     
     uses javax.measure.format.QuantityFormat;
     uses javax.measure.format.UnitFormat;
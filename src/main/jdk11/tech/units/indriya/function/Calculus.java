@@ -46,6 +46,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import tech.units.indriya.internal.function.simplify.CompositionCache;
 import tech.units.indriya.spi.NumberSystem;
 
 /**
@@ -103,6 +104,8 @@ public final class Calculus {
      */
     public static void setCurrentNumberSystem(NumberSystem system) {
     	currentSystem = system;
+    	ConverterCache.clear();
+    	CompositionCache.clear();
     }
 
     /**
@@ -37,9 +37,11 @@ import static tech.units.indriya.format.UnitStyle.SYMBOL_AND_LABEL;
 
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
+import java.util.AbstractSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -60,14 +62,19 @@ import tech.uom.lib.common.function.Nameable;
  * </p>
  *
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 3.1, May 18, 2026
+ * @version 3.2, October 17, 2026
  * @since 1.0
  */
 public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	/**
 	 * Holds the units.
 	 */
-	protected final Set<Unit<?>> units = new HashSet<>();
+	protected final Set<Unit<?>> units = new UnitSet();
+
+	/**
+	 * Holds the lookup tables of {@link #units}, rebuilt on demand once units or labels change.
+	 */
+	private volatile UnitIndex index;
 
 	/**
 	 * Holds the mapping quantity to unit.
@@ -99,8 +106,8 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 
 	@Override
 	public Set<? extends Unit<?>> getUnits(Dimension dimension) {
-		return this.getUnits().stream().filter(unit -> dimension.equals(unit.getDimension()))
-				.collect(Collectors.toSet());
+		final Set<Unit<?>> result = index().byDimension.get(dimension);
+		return result != null ? new HashSet<>(result) : new HashSet<>();
 	}
 
 	/*
@@ -122,7 +129,7 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	@Override
 	public Unit<?> getUnit(String string) {
 		Objects.requireNonNull(string);
-		return this.getUnits().stream().filter((u) -> string.equals(u.toString())).findAny().orElse(null);
+		return lookup(string, LABEL, false);
 	}
 
 	/**
@@ -146,27 +153,169 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	 */
 	public Unit<?> getUnit(String string, UnitStyle style, boolean ignoreCase) {
 		Objects.requireNonNull(string);
-		Unit<?> result;
-		switch (style) {
-			case NAME -> {
-				if (ignoreCase) {
-					result = this.getUnits().stream().filter((u) -> string.equalsIgnoreCase(u.getName())).findFirst()
-							.orElse(null);
-				} else {
-					result = this.getUnits().stream().filter((u) -> string.equals(u.getName())).findFirst().orElse(null);
-				}
+		return switch (style) {
+			case NAME, SYMBOL -> lookup(string, style, ignoreCase);
+			default -> getUnit(string);
+		};
+	}
+
+	/**
+	 * Looks the given string up in the index, verifying the match as names and symbols of units might have been changed
+	 * after they were added. A failed verification rebuilds the index once. Styles other than {@link UnitStyle#NAME NAME}
+	 * and {@link UnitStyle#SYMBOL SYMBOL} look up the string representation of units.
+	 */
+	private Unit<?> lookup(String string, UnitStyle style, boolean ignoreCase) {
+		UnitIndex current = index();
+		Unit<?> unit = current.get(string, style, ignoreCase);
+		if (unit != null && !UnitIndex.matches(unit, string, style, ignoreCase)) {
+			current = index = new UnitIndex(units);
+			unit = current.get(string, style, ignoreCase);
+		}
+		return unit;
+	}
+
+	private UnitIndex index() {
+		final UnitIndex current = index;
+		if (current != null && current.isValid(units)) {
+			return current;
+		}
+		return index = new UnitIndex(units);
+	}
+
+	/**
+	 * A set of units counting its modifications, so the {@link UnitIndex} can tell whether it is stale.
+	 */
+	private static final class UnitSet extends AbstractSet<Unit<?>> {
+		private final Set<Unit<?>> delegate = new HashSet<>();
+		private volatile int modCount;
+
+		@Override
+		public boolean add(Unit<?> unit) {
+			if (delegate.add(unit)) {
+				modCount++;
+				return true;
 			}
-			case SYMBOL -> {
-				if (ignoreCase) {
-					result = this.getUnits().stream().filter((u) -> string.equalsIgnoreCase(u.getSymbol())).findFirst()
-							.orElse(null);
-				} else {
-					result = this.getUnits().stream().filter((u) -> string.equals(u.getSymbol())).findFirst().orElse(null);
+			return false;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (delegate.remove(o)) {
+				modCount++;
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			delegate.clear();
+			modCount++;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return delegate.contains(o);
+		}
+
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+
+		@Override
+		public Iterator<Unit<?>> iterator() {
+			final Iterator<Unit<?>> it = delegate.iterator();
+			return new Iterator<Unit<?>>() {
+				@Override
+				public boolean hasNext() {
+					return it.hasNext();
+				}
+
+				@Override
+				public Unit<?> next() {
+					return it.next();
+				}
+
+				@Override
+				public void remove() {
+					it.remove();
+					modCount++;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Lookup tables of units by string representation, name, symbol (also ignoring case) and dimension.
+	 * Where several units share a key the first one in iteration order is kept, as the former linear search did.
+	 * The tables are immutable once built; a change of the unit set or of any unit label makes them stale.
+	 */
+	private static final class UnitIndex {
+		private final int modCount;
+		private final int labelVersion;
+		private final Map<String, Unit<?>> byString = new HashMap<>();
+		private final Map<String, Unit<?>> byName = new HashMap<>();
+		private final Map<String, Unit<?>> byNameIgnoreCase = new HashMap<>();
+		private final Map<String, Unit<?>> bySymbol = new HashMap<>();
+		private final Map<String, Unit<?>> bySymbolIgnoreCase = new HashMap<>();
+		private final Map<Dimension, Set<Unit<?>>> byDimension = new HashMap<>();
+
+		private UnitIndex(Set<Unit<?>> units) {
+			// read the stamps first, so a concurrent change leaves this index stale rather than incomplete
+			this.modCount = modCount(units);
+			this.labelVersion = SimpleUnitFormat.labelVersion();
+			for (Unit<?> unit : units) {
+				byString.putIfAbsent(unit.toString(), unit);
+				final String name = unit.getName();
+				if (name != null) {
+					byName.putIfAbsent(name, unit);
+					byNameIgnoreCase.putIfAbsent(fold(name), unit);
+				}
+				final String symbol = unit.getSymbol();
+				if (symbol != null) {
+					bySymbol.putIfAbsent(symbol, unit);
+					bySymbolIgnoreCase.putIfAbsent(fold(symbol), unit);
 				}
+				byDimension.computeIfAbsent(unit.getDimension(), d -> new HashSet<>()).add(unit);
+			}
+		}
+
+		private boolean isValid(Set<Unit<?>> units) {
+			return modCount == modCount(units) && labelVersion == SimpleUnitFormat.labelVersion();
+		}
+
+		private Unit<?> get(String string, UnitStyle style, boolean ignoreCase) {
+			return switch (style) {
+				case NAME -> ignoreCase ? byNameIgnoreCase.get(fold(string)) : byName.get(string);
+				case SYMBOL -> ignoreCase ? bySymbolIgnoreCase.get(fold(string)) : bySymbol.get(string);
+				default -> byString.get(string);
+			};
+		}
+
+		private static boolean matches(Unit<?> unit, String string, UnitStyle style, boolean ignoreCase) {
+			return switch (style) {
+				case NAME -> ignoreCase ? string.equalsIgnoreCase(unit.getName()) : string.equals(unit.getName());
+				case SYMBOL -> ignoreCase ? string.equalsIgnoreCase(unit.getSymbol()) : string.equals(unit.getSymbol());
+				default -> string.equals(unit.toString());
+			};
+		}
+
+		private static int modCount(Set<Unit<?>> units) {
+			return ((UnitSet) units).modCount;
+		}
+
+		/**
+		 * Folds the case of a string such that two strings are {@link String#equalsIgnoreCase(String) equal ignoring case}
+		 * exactly if their folded forms are equal.
+		 */
+		private static String fold(String s) {
+			final char[] chars = new char[s.length()];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
 			}
-			default -> result = getUnit(string);
+			return new String(chars);
 		}
-		return result;
 	}
 
 	/**
@@ -29,10 +29,13 @@
  */
 package tech.units.indriya.quantity;
 
+import java.util.BitSet;
 import java.util.Objects;
 
 import javax.measure.Quantity;
+import javax.measure.Unit;
 
+import tech.units.indriya.AbstractQuantity;
 import tech.units.indriya.ComparableQuantity;
 import tech.units.indriya.spi.Range;
 
@@ -47,7 +50,7 @@ import tech.units.indriya.spi.Range;
  * @param <Q> The value of the range.
  * 
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 3.1, Jan 7, 2024
+ * @version 3.3, October 17, 2026
  * @see <a href=
  *      "http://www.botts-inc.com/SensorML_1.0.1/schemaBrowser/SensorML_QuantityRange.html">
  *      SensorML: QuantityRange</a>
@@ -123,8 +126,51 @@ public record QuantityRange<Q extends Quantity<Q>>(Quantity<Q> minimum, Quantity
 	@Override
 	public boolean contains(final Quantity<Q> q) {
 		Objects.requireNonNull(q);
-		return q.getValue() != null && q.getUnit() != null && fulfillsMinimumConstraint(q)
-				&& fulfillsMaximumConstraint(q);
+		if (q.getValue() == null || q.getUnit() == null) {
+			return false;
+		}
+		if (q instanceof AbstractQuantity) {
+			// same comparison as AbstractQuantity.compareTo, against bounds already converted into the unit of q
+			return bounds().contains(q);
+		}
+		return fulfillsMinimumConstraint(q) && fulfillsMaximumConstraint(q);
+	}
+
+	/**
+	 * Checks whether the given value, stated in the given unit, lies within this range.
+	 * <p>
+	 * The bounds are converted into {@code unit} once and kept as {@code double} values, so repeated checks in the same
+	 * unit neither convert nor allocate.
+	 * </p>
+	 *
+	 * @param value the value to check.
+	 * @param unit  the unit of {@code value}.
+	 * @return {@code true} if {@code value} is neither below the minimum nor above the maximum (if any).
+	 * @since 2.2.5
+	 */
+	public boolean contains(final double value, final Unit<Q> unit) {
+		Objects.requireNonNull(unit);
+		return bounds().contains(value, unit);
+	}
+
+	/**
+	 * Checks for each of the given values, stated in the given unit, whether it lies within this range.
+	 *
+	 * @param values the values to check.
+	 * @param unit   the unit of {@code values}.
+	 * @param out    receives for each index of {@code values} whether that value lies within this range.
+	 * @see #contains(double, Unit)
+	 * @since 2.2.5
+	 */
+	public void contains(final double[] values, final Unit<Q> unit, final BitSet out) {
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(unit);
+		Objects.requireNonNull(out);
+		bounds().contains(values, unit, out);
+	}
+
+	private QuantityRangeBounds<Q> bounds() {
+		return QuantityRangeBoundsCache.get(this);
 	}
 
 	@Override
@@ -0,0 +1,125 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.Quantity;
+
+/**
+ * Holds the {@link QuantityRangeBounds} of each {@link QuantityRange}, as a record has no room for them.
+ * <p>
+ * Ranges are weakly referenced and looked up by identity, so a check neither hashes the range components nor contends
+ * on a lock, and each range builds its bounds once.
+ * </p>
+ *
+ * @version 1.0, October 17, 2026
+ * @since 2.2.5
+ */
+final class QuantityRangeBoundsCache {
+
+    private static final ConcurrentHashMap<Object, QuantityRangeBounds<?>> BOUNDS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<QuantityRange<?>> COLLECTED = new ReferenceQueue<>();
+
+    private QuantityRangeBoundsCache() {
+    }
+
+    /**
+     * Returns the bounds of a range, building them on first use.
+     *
+     * @param range
+     *          the range.
+     * @return the bounds of {@code range}.
+     */
+    @SuppressWarnings("unchecked")
+    static <Q extends Quantity<Q>> QuantityRangeBounds<Q> get(QuantityRange<Q> range) {
+        final QuantityRangeBounds<?> bounds = BOUNDS.get(new Lookup(range));
+        if (bounds != null) {
+            return (QuantityRangeBounds<Q>) bounds;
+        }
+        for (Object key; (key = COLLECTED.poll()) != null;) {
+            BOUNDS.remove(key);
+        }
+        return (QuantityRangeBounds<Q>) BOUNDS.computeIfAbsent(new Key(range, COLLECTED),
+                k -> new QuantityRangeBounds<>(range.minimum(), range.maximum()));
+    }
+
+    /**
+     * Weak reference to a range, equal to keys of the same range instance.
+     */
+    private static final class Key extends WeakReference<QuantityRange<?>> {
+        private final int hash;
+
+        private Key(QuantityRange<?> range, ReferenceQueue<QuantityRange<?>> queue) {
+            super(range, queue);
+            this.hash = System.identityHashCode(range);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                final QuantityRange<?> range = get();
+                return range != null && range == ((Key) obj).get();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Strong, short-lived counterpart of {@link Key} used for lookups.
+     */
+    private static final class Lookup {
+        private final QuantityRange<?> range;
+
+        private Lookup(QuantityRange<?> range) {
+            this.range = range;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(range);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && ((Key) obj).get() == range;
+        }
+    }
+}
@@ -31,9 +31,18 @@ package tech.units.indriya;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tech.units.indriya.format.UnitStyle.NAME;
+import static tech.units.indriya.format.UnitStyle.SYMBOL;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
 
 import org.junit.jupiter.api.Test;
 
+import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.unit.UnitDimension;
 import tech.units.indriya.unit.Units;
 
 public class AbsSystemOfUnitsTest {
@@ -51,4 +60,48 @@ public class AbsSystemOfUnitsTest {
 		assertNotNull(sut.getUnits());
 		assertEquals(NUM_OF_UNITS, sut.getUnits().size());
 	}
+
+	@Test
+	public void testLookupFollowsChanges() {
+		final TestSystem system = new TestSystem();
+		assertNull(system.getUnit("Metre", NAME));
+		assertEquals(0, system.getUnits(UnitDimension.LENGTH).size());
+
+		system.add(Units.METRE);
+		assertSame(Units.METRE, system.getUnit("Metre", NAME));
+		assertSame(Units.METRE, system.getUnit("METRE", NAME, true));
+		assertSame(Units.METRE, system.getUnit("M", SYMBOL, true));
+		assertSame(Units.METRE, system.getUnit("m"));
+		assertEquals(1, system.getUnits(UnitDimension.LENGTH).size());
+
+		final Unit<Length> yard = Units.METRE.multiply(0.9144);
+		system.add(yard);
+		assertNull(system.getUnit("yd"));
+		SimpleUnitFormat.getInstance().label(yard, "yd");
+		try {
+			assertEquals(yard, system.getUnit("yd"));
+			assertEquals(2, system.getUnits(UnitDimension.LENGTH).size());
+		} finally {
+			SimpleUnitFormat.getInstance().removeLabel(yard);
+		}
+		assertNull(system.getUnit("yd"));
+
+		system.remove(Units.METRE);
+		assertNull(system.getUnit("Metre", NAME));
+	}
+
+	private static final class TestSystem extends AbstractSystemOfUnits {
+		@Override
+		public String getName() {
+			return "Test";
+		}
+
+		void add(Unit<?> unit) {
+			units.add(unit);
+		}
+
+		void remove(Unit<?> unit) {
+			units.remove(unit);
+		}
+	}
 }
@@ -37,17 +37,27 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static javax.measure.Quantity.Scale.ABSOLUTE;
+import static javax.measure.Quantity.Scale.RELATIVE;
 import static tech.units.indriya.unit.Units.CELSIUS;
 import static tech.units.indriya.unit.Units.GRAM;
+import static tech.units.indriya.unit.Units.KELVIN;
 import static tech.units.indriya.unit.Units.KILOGRAM;
 import static tech.units.indriya.unit.Units.METRE;
 import static tech.units.indriya.unit.Units.WATT;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.measure.Dimension;
 import javax.measure.Quantity;
+import javax.measure.Quantity.Scale;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
 import javax.measure.quantity.Length;
@@ -58,6 +68,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.function.ConverterCache;
 import tech.units.indriya.quantity.Quantities;
 import tech.units.indriya.unit.BaseUnit;
 import tech.units.indriya.unit.TransformedUnit;
@@ -438,4 +449,59 @@ public class AbsUnitTest {
 		assertEquals("kg", ((TransformedUnit<Mass>) GRAM).getParentUnit().getSymbol());
 	}
 
+	@Test
+	public void testScaledConverterDoesNotMutateUnit() {
+		@SuppressWarnings("unchecked")
+		final AbstractUnit<Length> source = (AbstractUnit<Length>) CELSIUS.multiply(METRE);
+		@SuppressWarnings("unchecked")
+		final Unit<Length> target = (Unit<Length>) KELVIN.multiply(METRE);
+
+		assertNotNull(source.getConverterTo(target, RELATIVE));
+		assertEquals(ABSOLUTE, source.scale);
+		// the absolute scale still rejects the non-linear Celsius factor
+		assertThrows(UnsupportedOperationException.class, () -> source.getConverterTo(target));
+		assertThrows(UnsupportedOperationException.class, () -> source.getConverterTo(target, ABSOLUTE));
+	}
+
+	@Test
+	public void testConcurrentScaledConversions() throws Exception {
+		@SuppressWarnings("unchecked")
+		final AbstractUnit<Length> source = (AbstractUnit<Length>) CELSIUS.multiply(METRE);
+		@SuppressWarnings("unchecked")
+		final Unit<Length> target = (Unit<Length>) KELVIN.multiply(METRE);
+		final AbstractUnit<Length> kilometre = (AbstractUnit<Length>) KILO(METRE);
+		final UnitConverter relative = source.getConverterTo(target, RELATIVE);
+
+		final int threads = 4;
+		final int iterations = 500;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		ConverterCache.setMaximumSize(0); // force computing the converter on every call
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				final Scale scale = t % 2 == 0 ? RELATIVE : ABSOLUTE;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < iterations; i++) {
+						if (scale == RELATIVE) {
+							assertEquals(relative, source.getConverterTo(target, RELATIVE));
+						} else {
+							assertThrows(UnsupportedOperationException.class, () -> source.getConverterTo(target, ABSOLUTE));
+						}
+						assertEquals(1000d, kilometre.getConverterTo(METRE, scale).convert(1d));
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(); // rethrows assertion failures of the worker threads
+			}
+		} finally {
+			executor.shutdownNow();
+			ConverterCache.setMaximumSize(ConverterCache.DEFAULT_MAXIMUM_SIZE);
+		}
+		assertEquals(ABSOLUTE, source.scale);
+	}
 }
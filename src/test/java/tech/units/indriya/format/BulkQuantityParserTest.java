@@ -0,0 +1,175 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.units.indriya.unit.Units.METRE;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests the {@link BulkQuantityParser}.
+ */
+public class BulkQuantityParserTest {
+
+  private static final String LINES = "1.5 m\n2 km\r\n\n-3 m\n250 cm";
+  private static final String CSV = "id,name,length\n1,a,1.5 m\n2,b,2 km\n3,c,\n";
+
+  @Test
+  public void testLines() throws IOException {
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().build();
+    final BulkQuantityParser.Values values = parser.parse(new StringReader(LINES));
+    assertEquals(4, values.size());
+    assertArrayEquals(new double[] { 1.5, 2, -3, 250 }, values.getValues());
+    assertArrayEquals(new int[] { 0, 1, 0, 2 }, values.getUnitIndices());
+    assertEquals(METRE, values.getUnit(0));
+    assertEquals(METRE.prefix(MetricPrefix.KILO), values.getUnit(1));
+    assertEquals(METRE.prefix(MetricPrefix.CENTI), values.getUnit(3));
+    assertNull(values.getTargetUnit());
+  }
+
+  @Test
+  public void testTargetUnit() {
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().setTargetUnit(METRE).build();
+    final BulkQuantityParser.Values values = parser.parse(CharBuffer.wrap(LINES));
+    assertArrayEquals(new double[] { 1.5, 2000, -3, 2.5 }, values.getValues(), 1e-12);
+    assertEquals(METRE, values.getTargetUnit());
+  }
+
+  @Test
+  public void testColumn() {
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().setColumn(',', 2).setHeaderLines(1)
+        .setTargetUnit(METRE).build();
+    final BulkQuantityParser.Values values = parser.parse(ByteBuffer.wrap(CSV.getBytes(StandardCharsets.US_ASCII)));
+    assertEquals(3, values.size());
+    assertEquals(1.5, values.getValues()[0]);
+    assertEquals(2000, values.getValues()[1]);
+    assertEquals(Double.NaN, values.getValues()[2]);
+    assertEquals(-1, values.getUnitIndices()[2]);
+    assertNull(values.getUnit(2));
+  }
+
+  @Test
+  public void testUtf8() {
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().build();
+    final BulkQuantityParser.Values values = parser.parse(ByteBuffer.wrap("20 °C\n5 µm\n1 m".getBytes(StandardCharsets.UTF_8)));
+    assertArrayEquals(new double[] { 20, 5, 1 }, values.getValues());
+    assertEquals(Units.CELSIUS, values.getUnit(0));
+    assertEquals(METRE.prefix(MetricPrefix.MICRO), values.getUnit(1));
+    assertEquals(METRE, values.getUnit(2));
+  }
+
+  @Test
+  public void testConsumer() throws IOException {
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().setTargetUnit(METRE).build();
+    final List<Unit<?>> units = new ArrayList<>();
+    final double[] sum = new double[1];
+    parser.parse(new StringReader(LINES), (value, unit) -> {
+      sum[0] += value;
+      units.add(unit);
+    });
+    assertEquals(1.5 + 2000 - 3 + 2.5, sum[0], 1e-12);
+    assertEquals(4, units.size());
+    assertEquals(METRE, units.get(1));
+  }
+
+  @Test
+  public void testUnitDictionaryKeptAcrossCalls() {
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().build();
+    parser.parse(CharBuffer.wrap("1 m\n2 km"));
+    final BulkQuantityParser.Values values = parser.parse(CharBuffer.wrap("3 km\n4 s"));
+    assertArrayEquals(new int[] { 1, 2 }, values.getUnitIndices());
+    assertEquals(3, parser.getUnits().size());
+  }
+
+  @Test
+  public void testLinesSpanningChunks() {
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      sb.append(i).append(" m").append(i % 2 == 0 ? "\n" : "\r\n");
+    }
+    for (int i = 0; i < 20000; i++) {
+      sb.append(' ');
+    }
+    sb.append("7 km");
+    final BulkQuantityParser.Values values = new BulkQuantityParser.Builder().build().parse(CharBuffer.wrap(sb));
+    assertEquals(5001, values.size());
+    assertEquals(4999, values.getValues()[4999]);
+    assertEquals(7, values.getValues()[5000]);
+    assertEquals(METRE.prefix(MetricPrefix.KILO), values.getUnit(5000));
+  }
+
+  @Test
+  public void testUnitPartAsNumberDelimiterQuantityFormat() {
+    final NumberDelimiterQuantityFormat format = NumberDelimiterQuantityFormat.getInstance();
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().setQuantityFormat(format).build();
+    final String[] lines = { "1.5 m extra", "2 km  ", "3 s m" };
+    final BulkQuantityParser.Values values = parser.parse(CharBuffer.wrap(String.join("\n", lines)));
+    for (int i = 0; i < lines.length; i++) {
+      final Quantity<?> quantity = format.parse(lines[i]);
+      assertEquals(quantity.getValue().doubleValue(), values.getValues()[i]);
+      assertEquals(quantity.getUnit(), values.getUnit(i));
+    }
+  }
+
+  @Test
+  public void testErrors() {
+    final BulkQuantityParser parser = new BulkQuantityParser.Builder().build();
+    assertThrows(MeasurementParseException.class, () -> parser.parse(CharBuffer.wrap("1 m\nabc m")));
+    assertThrows(MeasurementParseException.class, () -> parser.parse(CharBuffer.wrap("1 m\n2")));
+    assertThrows(MeasurementParseException.class, () -> new BulkQuantityParser.Builder().setColumn(',', 1).build()
+        .parse(CharBuffer.wrap("1 m")));
+    assertThrows(UnconvertibleException.class, () -> new BulkQuantityParser.Builder().setTargetUnit(METRE).build()
+        .parse(CharBuffer.wrap("1 s")));
+    assertThrows(IllegalArgumentException.class, () -> new BulkQuantityParser.Builder()
+        .setQuantityFormat(new NumberDelimiterQuantityFormat.Builder().setNumberFormat(NumberFormat.getInstance())
+            .setUnitFormat(SimpleUnitFormat.getInstance()).setRadixPartsDelimiter(";").build()));
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import javax.measure.Quantity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests the scanning helpers of {@link CommonFormatter} against {@link DecimalFormat} and {@link String#split(String)}.
+ */
+public class CommonFormatterTest {
+
+  private static final NumberFormat ROOT_FORMAT = NumberFormat.getInstance(Locale.ROOT);
+
+  @Test
+  public void testIsAsciiDecimal() {
+    assertTrue(CommonFormatter.isAsciiDecimal(NumberFormat.getInstance(Locale.ROOT)));
+    assertTrue(CommonFormatter.isAsciiDecimal(NumberFormat.getInstance(Locale.US)));
+    assertFalse(CommonFormatter.isAsciiDecimal(NumberFormat.getInstance(Locale.GERMANY)));
+    assertFalse(CommonFormatter.isAsciiDecimal(NumberFormat.getPercentInstance(Locale.ROOT)));
+    final DecimalFormat bigDecimal = (DecimalFormat) NumberFormat.getInstance(Locale.ROOT);
+    bigDecimal.setParseBigDecimal(true);
+    assertFalse(CommonFormatter.isAsciiDecimal(bigDecimal));
+    assertFalse(CommonFormatter.isAsciiDecimal(null));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "12", "12.0", "12.50", "-12.5", "-0", "-0.0", "0", "0.000", "007", "0.1", "3.14159 m", "12.5 km/h",
+      "123456789012345678", "-123456789012345678", "0.000000000000000001", "9007199254740993.5", "1.7976931348623157", "12/h",
+      "4.9e-324", "1e5", "1,000", "1,000.5", ".5", "12.", "12..5", "-", "--1", "+1", "x", "", "12%", "1.5E3" })
+  public void testParseAsciiDecimalAsDecimalFormat(String text) {
+    final ParsePosition expectedCursor = new ParsePosition(0);
+    final Number expected = ROOT_FORMAT.parse(text, expectedCursor);
+    final ParsePosition cursor = new ParsePosition(0);
+    final Number actual = CommonFormatter.parseAsciiDecimal(text, cursor);
+    if (actual == null) {
+      assertEquals(0, cursor.getIndex());
+    } else {
+      assertEquals(expected, actual);
+      assertEquals(expectedCursor.getIndex(), cursor.getIndex());
+    }
+  }
+
+  @Test
+  public void testParseAsciiDecimalFallsBack() {
+    assertNull(CommonFormatter.parseAsciiDecimal("1234567890123456789", new ParsePosition(0)));
+    assertNull(CommonFormatter.parseAsciiDecimal("1e5", new ParsePosition(0)));
+    assertNull(CommonFormatter.parseAsciiDecimal("1,000", new ParsePosition(0)));
+    assertNull(CommonFormatter.parseAsciiDecimal(".5", new ParsePosition(0)));
+  }
+
+  @Test
+  public void testParseAsciiDecimalRandomAsDecimalFormat() {
+    final Random random = new Random(385);
+    for (int i = 0; i < 20_000; i++) {
+      final String text = new BigDecimal(random.nextLong()).movePointLeft(random.nextInt(20)).toPlainString();
+      final ParsePosition cursor = new ParsePosition(0);
+      final Number actual = CommonFormatter.parseAsciiDecimal(text, cursor);
+      if (actual != null) {
+        assertEquals(ROOT_FORMAT.parse(text, new ParsePosition(0)), actual, text);
+      }
+    }
+  }
+
+  @Test
+  public void testParseAsciiDecimalAtIndex() {
+    final ParsePosition cursor = new ParsePosition(4);
+    assertEquals(2.5, CommonFormatter.parseAsciiDecimal("abc 2.5 m", cursor));
+    assertEquals(7, cursor.getIndex());
+  }
+
+  @Test
+  public void testUnitPartAsSplit() {
+    final String[] texts = { "12 m", "12 km/h extra", "12  m", "12 m ", "12", "12 ", "12  ", " 12 m", "1.5_kg", "3--m--s", "3---m",
+        "-5 mm" };
+    final String[] delimiters = { " ", "_", "--", "|" };
+    for (String delimiter : delimiters) {
+      for (String text : texts) {
+        final String[] parts = text.split(Pattern.quote(delimiter));
+        if (parts.length < 2) {
+          assertThrows(IllegalArgumentException.class, () -> CommonFormatter.unitPart(text, delimiter, 0), text);
+        } else {
+          assertEquals(parts[1], CommonFormatter.unitPart(text, delimiter, 0), text);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParseWithRegexCharacterDelimiter() {
+    final NumberDelimiterQuantityFormat format = NumberDelimiterQuantityFormat.builder()
+        .setNumberFormat(NumberFormat.getInstance(Locale.ROOT)).setUnitFormat(SimpleUnitFormat.getInstance()).setDelimiter("|").build();
+    assertEquals(Quantities.getQuantity(12.5, Units.KILOMETRE_PER_HOUR), format.parse("12.5|km/h"));
+  }
+
+  @Test
+  public void testParseSharedAcrossThreads() throws Exception {
+    final NumberDelimiterQuantityFormat german = NumberDelimiterQuantityFormat.builder()
+        .setNumberFormat(NumberFormat.getInstance(Locale.GERMANY)).setUnitFormat(SimpleUnitFormat.getInstance()).build();
+    final NumberDelimiterQuantityFormat root = NumberDelimiterQuantityFormat.getInstance();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        final int offset = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 2_000; i++) {
+            final int value = offset * 10_000 + i;
+            final Quantity<?> q1 = german.parse(value + ",5 m");
+            assertEquals(value + 0.5, q1.getValue().doubleValue());
+            final Quantity<?> q2 = root.parse(value + ",000.25 km");
+            assertEquals(value * 1000 + 0.25, q2.getValue().doubleValue());
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests the {@link QuantityWriter} against {@link Object#toString()}.
+ */
+public class QuantityWriterTest {
+
+  private static final Quantity<?>[] QUANTITIES = { Quantities.getQuantity(1.5, Units.METRE),
+      Quantities.getQuantity(2.0, Units.KILOMETRE_PER_HOUR), Quantities.getQuantity(-3, Units.CELSIUS),
+      Quantities.getQuantity(1e-20, Units.METRE.divide(Units.SECOND)), Quantities.getQuantity(42L, AbstractUnit.ONE),
+      Quantities.getQuantity(RationalNumber.of(1, 3), Units.NEWTON.multiply(Units.METRE)),
+      Quantities.getQuantity(new BigDecimal("0.125"), Units.KILOGRAM.divide(Units.METRE.pow(3))),
+      Quantities.getQuantity(1e300, Units.SQUARE_METRE) };
+
+  private final QuantityWriter writer = new QuantityWriter();
+
+  @Test
+  public void testStringBuilder() {
+    final StringBuilder sb = new StringBuilder();
+    for (Quantity<?> quantity : QUANTITIES) {
+      sb.setLength(0);
+      assertEquals(quantity.toString(), writer.write(quantity, sb).toString());
+      assertEquals(quantity.toString(), writer.write(quantity, sb.append('x')).substring(quantity.toString().length() + 1));
+    }
+  }
+
+  @Test
+  public void testDoubleValues() {
+    final double[] values = { 0, -0.0, 1, -7, 2.5, 1e-9, 123456789.25, 1e18, 1e20, Math.PI };
+    final StringBuilder sb = new StringBuilder();
+    for (double value : values) {
+      sb.setLength(0);
+      assertEquals(Quantities.getQuantity(value, Units.METRE).toString(), writer.write(value, Units.METRE, sb).toString());
+    }
+  }
+
+  @Test
+  public void testByteBuffer() {
+    final ByteBuffer buffer = ByteBuffer.allocate(512);
+    for (Quantity<?> quantity : QUANTITIES) {
+      buffer.clear();
+      writer.write(quantity, buffer).flip();
+      assertEquals(quantity.toString(), StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+    buffer.clear();
+    writer.write(20.5, Units.CELSIUS, buffer).flip();
+    assertEquals("20.5 ℃", StandardCharsets.UTF_8.decode(buffer).toString());
+  }
+
+  @Test
+  public void testEqualUnitsInDifferentOrder() {
+    final Unit<?> meterKilogram = Units.METRE.multiply(Units.KILOGRAM);
+    final Unit<?> kilogramMeter = Units.KILOGRAM.multiply(Units.METRE);
+    assertEquals(meterKilogram.toString(), writer.write(meterKilogram, new StringBuilder()).toString());
+    assertEquals(kilogramMeter.toString(), writer.write(kilogramMeter, new StringBuilder()).toString());
+  }
+
+  @Test
+  public void testByteBufferOverflow() {
+    final ByteBuffer buffer = ByteBuffer.allocate(5);
+    assertThrows(BufferOverflowException.class, () -> writer.write(1.25, Units.METRE, buffer));
+    assertEquals(0, buffer.position());
+    writer.write(1.5, Units.METRE, buffer);
+    assertEquals(5, buffer.position());
+  }
+
+  @Test
+  public void testUnit() {
+    final Unit<?> unit = Units.METRE.divide(Units.SECOND.pow(2));
+    assertEquals(unit.toString(), writer.write(unit, new StringBuilder()).toString());
+  }
+
+  @Test
+  public void testLabelChange() {
+    final Unit<?> unit = Units.WATT.multiply(Units.HOUR);
+    final String symbol = unit.toString();
+    assertEquals(symbol, writer.write(unit, new StringBuilder()).toString());
+    SimpleUnitFormat.getInstance().label(unit, "Wh");
+    try {
+      assertEquals("Wh", writer.write(unit, new StringBuilder()).toString());
+    } finally {
+      SimpleUnitFormat.getInstance().removeLabel(unit);
+    }
+    assertEquals(symbol, writer.write(unit, new StringBuilder()).toString());
+  }
+
+  @Test
+  public void testAsciiFlavor() {
+    final QuantityWriter asciiWriter = new QuantityWriter(SimpleUnitFormat.getInstance(SimpleUnitFormat.Flavor.ASCII));
+    final Unit<?> unit = Units.CELSIUS;
+    assertEquals("1.5 " + SimpleUnitFormat.getInstance(SimpleUnitFormat.Flavor.ASCII).format(unit),
+        asciiWriter.write(1.5, unit, new StringBuilder()).toString());
+  }
+}
@@ -42,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static tech.units.indriya.format.SimpleUnitFormat.Flavor.ASCII;
 import static tech.units.indriya.unit.Units.CANDELA;
@@ -317,7 +318,27 @@ public class SimpleUnitFormatTest {
       Unit<?> u = format.parse("ng");
       assertEquals(NANO(GRAM), u);
     }
-    
+
+    @Test
+    public void testParsePrefixed() {
+      assertEquals(KILO(HERTZ), format.parse("kHz"));
+      assertEquals(MICRO(Units.SECOND), format.parse("µs"));
+      assertEquals(MICRO(Units.SECOND), format.parse("μs"));
+      assertEquals(CENTI(Units.SQUARE_METRE), format.parse("cm²"));
+      assertEquals(KIBI(Units.LITRE), format.parse("Kil"));
+      assertEquals(KILO(Units.CELSIUS), format.parse("k°C"));
+      assertThrows(MeasurementParseException.class, () -> format.parse("KiHz"));
+    }
+
+    @Test
+    public void testParsePrefixedReusesUnit() {
+      final SimpleUnitFormat newFormat = SimpleUnitFormat.getNewInstance();
+      assertSame(newFormat.parse("GW"), newFormat.parse("GW"));
+      assertEquals("GW", newFormat.format(newFormat.parse("GW")));
+      assertEquals("Kil", newFormat.format(KIBI(Units.LITRE)));
+      assertEquals("µl", newFormat.format(MICRO(Units.LITRE)));
+    }
+
 	@Test
 	public void testPrefix() {
 		logger.log(LOG_LEVEL, format.format(GIGA(METRE_PER_SECOND))); 
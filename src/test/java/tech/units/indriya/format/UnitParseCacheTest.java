@@ -0,0 +1,136 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests the {@link UnitParseCache} consulted by {@link LocalUnitFormat} and {@link EBNFUnitFormat}.
+ */
+public class UnitParseCacheTest {
+
+  private static final String BUNDLE_NAME = "tech.units.indriya.format.messages";
+
+  private SymbolMap symbols;
+  private UnitParseCache cache;
+
+  @BeforeEach
+  public void init() {
+    symbols = SymbolMap.of(ResourceBundle.getBundle(BUNDLE_NAME, Locale.ROOT));
+    cache = symbols.getParseCache();
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    final LocalUnitFormat format = LocalUnitFormat.getInstance(symbols);
+    assertFalse(cache.isEnabled());
+    assertEquals(Units.METRE, format.parse("m"));
+    assertEquals(Units.METRE, format.parse("m"));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test
+  public void testLocalUnitFormatHits() {
+    cache.setMaximumSize(16);
+    final LocalUnitFormat format = LocalUnitFormat.getInstance(symbols);
+    final Unit<?> first = format.parse("km/h");
+    assertSame(first, format.parse(" km/h "));
+    assertEquals(Units.KILOMETRE_PER_HOUR.getDimension(), first.getDimension());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testEBNFUnitFormatHits() {
+    cache.setMaximumSize(16);
+    final EBNFUnitFormat format = EBNFUnitFormat.getInstance(symbols);
+    final Unit<?> first = format.parse("m/s");
+    assertSame(first, format.parse("m/s"));
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void testErrorsNotCached() {
+    cache.setMaximumSize(16);
+    final LocalUnitFormat format = LocalUnitFormat.getInstance(symbols);
+    assertThrows(IllegalArgumentException.class, () -> format.parse("nosuchunit"));
+    assertThrows(IllegalArgumentException.class, () -> format.parse("nosuchunit"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testInvalidatedByAliasAndLabel() {
+    cache.setMaximumSize(16);
+    final LocalUnitFormat format = LocalUnitFormat.getInstance(symbols);
+    assertThrows(IllegalArgumentException.class, () -> format.parse("fortnite"));
+    format.parse("m");
+    assertEquals(1, cache.size());
+
+    symbols.alias(Units.YEAR, "fortnite");
+    assertEquals(0, cache.size());
+    assertEquals(Units.YEAR, format.parse("fortnite"));
+
+    final Unit<?> year = format.parse("fortnite");
+    symbols.label(Units.DAY, "fortnite");
+    assertEquals(0, cache.size());
+    assertEquals(Units.DAY, format.parse("fortnite"));
+    assertEquals(Units.YEAR, year);
+  }
+
+  @Test
+  public void testBounded() {
+    cache.setMaximumSize(8);
+    final LocalUnitFormat format = LocalUnitFormat.getInstance(symbols);
+    for (int i = 1; i <= 40; i++) {
+      format.parse("m^" + i);
+      assertTrue(cache.size() <= 8);
+    }
+    cache.setMaximumSize(0);
+    assertEquals(0, cache.size());
+    assertThrows(IllegalArgumentException.class, () -> cache.setMaximumSize(-1));
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests the {@link UnitSymbolCache} used by {@link SimpleUnitFormat}.
+ */
+public class UnitSymbolCacheTest {
+
+  @Test
+  public void testCachedPerInstance() {
+    final UnitSymbolCache cache = new UnitSymbolCache();
+    final Unit<?> unit = Units.METRE.divide(Units.SECOND);
+    final Unit<?> equalUnit = Units.METRE.divide(Units.SECOND);
+    cache.put(unit, "m/s", 1);
+    assertEquals("m/s", cache.get(unit, 1));
+    assertNull(cache.get(equalUnit, 1)); // looked up by identity
+  }
+
+  @Test
+  public void testStaleVersion() {
+    final UnitSymbolCache cache = new UnitSymbolCache();
+    final Unit<?> unit = Units.METRE.divide(Units.SECOND);
+    cache.put(unit, "m/s", 1);
+    assertNull(cache.get(unit, 2));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testFormatReusesSymbol() throws IOException {
+    final SimpleUnitFormat format = SimpleUnitFormat.getInstance();
+    final Unit<?> unit = Units.KILOGRAM.multiply(Units.METRE).divide(Units.SECOND.pow(2));
+    final String symbol = format.format(unit);
+    assertSame(symbol, format.format(unit));
+    assertSame(symbol, unit.toString());
+    assertEquals(symbol, format.format(unit, new StringBuilder()).toString());
+  }
+
+  @Test
+  public void testLabelInvalidates() {
+    final SimpleUnitFormat format = SimpleUnitFormat.getInstance();
+    final Unit<?> unit = Units.WATT.multiply(Units.HOUR);
+    final String symbol = format.format(unit);
+    format.label(unit, "Wh");
+    try {
+      assertEquals("Wh", format.format(unit));
+      assertEquals("Wh", unit.toString());
+    } finally {
+      format.removeLabel(unit);
+    }
+    assertEquals(symbol, format.format(unit));
+  }
+
+  @Test
+  public void testAsciiFlavorCachedSeparately() {
+    final Unit<?> unit = Units.NEWTON.multiply(Units.METRE);
+    final String ascii = SimpleUnitFormat.getInstance(SimpleUnitFormat.Flavor.ASCII).format(unit);
+    assertEquals("N*m", ascii);
+    assertEquals("N·m", SimpleUnitFormat.getInstance().format(unit));
+    assertSame(ascii, SimpleUnitFormat.getInstance(SimpleUnitFormat.Flavor.ASCII).format(unit));
+  }
+
+  @Test
+  public void testOverriddenFormatIsUsed() {
+    final SimpleUnitFormat format = new SimpleUnitFormat.DefaultFormat() {
+      @Override
+      public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+        return appendable.append('<').append(unit.getSymbol()).append('>');
+      }
+    };
+    assertEquals("<m>", format.format(Units.METRE));
+    assertEquals("<m>", format.format(Units.METRE));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MILLI;
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.units.indriya.NumberAssertions.assertNumberEquals;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.DAY;
+import static tech.units.indriya.unit.Units.HOUR;
+import static tech.units.indriya.unit.Units.JOULE;
+import static tech.units.indriya.unit.Units.KELVIN;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+import static tech.units.indriya.unit.Units.SQUARE_METRE;
+import static tech.units.indriya.unit.Units.WATT;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.SerializationRoundTrip;
+
+public class CompiledConverterTest {
+
+	@Test
+	public void testAffine() {
+		UnitConverter source = MILLI(CELSIUS).getConverterTo(KELVIN);
+		CompiledConverter compiled = CompiledConverter.of(source);
+		assertTrue(compiled.isAffine());
+		assertEquals(RationalNumber.of(1, 1000), compiled.getFactor().get());
+		assertNumberEquals(273.15, compiled.getOffset().get(), 1E-12);
+		assertEquals(273.151, compiled.convert(1d), 1E-12);
+		assertNumberEquals(source.convert(1), compiled.convert(1), 1E-12);
+		assertEquals(source, compiled.getSource());
+	}
+
+	@Test
+	public void testDerivedUnit() {
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		UnitConverter source = ((Unit) KILO(WATT).multiply(HOUR).divide(SQUARE_METRE.multiply(DAY)))
+				.getConverterTo(JOULE.divide(SQUARE_METRE.multiply(SECOND)));
+		CompiledConverter compiled = CompiledConverter.of(source);
+		assertTrue(compiled.isAffine());
+		assertEquals(source.convert(2.5d), compiled.convert(2.5d), 1E-12);
+		assertEquals(1000d * 3600 / 86400, compiled.convert(1d), 1E-12);
+	}
+
+	@Test
+	public void testNonAffine() {
+		UnitConverter source = new LogConverter(10).concatenate(MultiplyConverter.ofRational(1, 1000));
+		CompiledConverter compiled = CompiledConverter.of(source);
+		assertFalse(compiled.isAffine());
+		assertFalse(compiled.getFactor().isPresent());
+		assertEquals(source.convert(10000d), compiled.convert(10000d), 1E-12);
+		assertEquals(1d, compiled.convert(10000d), 1E-12);
+	}
+
+	@Test
+	public void testIdentity() {
+		CompiledConverter compiled = CompiledConverter.of(AbstractConverter.IDENTITY);
+		assertTrue(compiled.isIdentity());
+		assertEquals(42d, compiled.convert(42d));
+	}
+
+	@Test
+	public void testMemoized() {
+		AbstractConverter source = (AbstractConverter) MILLI(CELSIUS).getConverterTo(KELVIN);
+		assertSame(source.compile(), source.compile());
+		assertSame(source.compile(), CompiledConverter.of(source.compile()));
+	}
+
+	@Test
+	public void testInverseAndConcatenate() {
+		UnitConverter source = KILO(METRE).getConverterTo(METRE);
+		CompiledConverter compiled = CompiledConverter.of(source);
+		assertEquals(CompiledConverter.of(source.inverse()), compiled.inverse());
+		assertTrue(compiled.concatenate(compiled.inverse()).isIdentity());
+		assertEquals(source.concatenate(source), ((AbstractConverter) source).concatenate(compiled));
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		CompiledConverter compiled = CompiledConverter.of(MILLI(CELSIUS).getConverterTo(KELVIN));
+		CompiledConverter afterRoundTrip = SerializationRoundTrip.serializationRoundTrip(compiled);
+		assertEquals(compiled, afterRoundTrip);
+		assertEquals(compiled.convert(1d), afterRoundTrip.convert(1d));
+	}
+}
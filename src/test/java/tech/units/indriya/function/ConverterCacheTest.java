@@ -0,0 +1,103 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static javax.measure.MetricPrefix.KILO;
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.KELVIN;
+import static tech.units.indriya.unit.Units.METRE;
+
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.quantity.Quantities;
+
+public class ConverterCacheTest {
+
+	@AfterEach
+	public void restore() {
+		ConverterCache.setMaximumSize(ConverterCache.DEFAULT_MAXIMUM_SIZE);
+		ConverterCache.clear();
+	}
+
+	@Test
+	public void testRepeatedLookupIsCached() {
+		ConverterCache.clear();
+		UnitConverter first = KILO(METRE).getConverterTo(METRE);
+		UnitConverter second = KILO(METRE).getConverterTo(METRE);
+		assertSame(first, second);
+		assertEquals(1000d, second.convert(1d));
+	}
+
+	@Test
+	public void testQuantityConversionUsesCache() {
+		ConverterCache.clear();
+		assertEquals(273.15d, Quantities.getQuantity(0, CELSIUS).to(KELVIN).getValue().doubleValue(), 1e-12);
+		assertSame(CELSIUS.getConverterTo(KELVIN), CELSIUS.getConverterTo(KELVIN));
+		assertTrue(ConverterCache.size() > 0);
+	}
+
+	@Test
+	public void testDisabled() {
+		ConverterCache.setMaximumSize(0);
+		assertFalse(ConverterCache.isEnabled());
+		assertEquals(0, ConverterCache.size());
+		UnitConverter first = KILO(METRE).getConverterTo(METRE);
+		UnitConverter second = KILO(METRE).getConverterTo(METRE);
+		assertNotSame(first, second);
+		assertEquals(first, second);
+		assertEquals(0, ConverterCache.size());
+	}
+
+	@Test
+	public void testBounded() {
+		ConverterCache.setMaximumSize(8);
+		for (int i = 1; i <= 100; i++) {
+			METRE.multiply(i).getConverterTo(METRE);
+		}
+		assertTrue(ConverterCache.size() <= 8);
+	}
+
+	@Test
+	public void testClearedOnNumberSystemChange() {
+		KILO(METRE).getConverterTo(METRE);
+		assertTrue(ConverterCache.size() > 0);
+		Calculus.setCurrentNumberSystem(Calculus.currentNumberSystem());
+		assertEquals(0, ConverterCache.size());
+	}
+
+	@Test
+	public void testNegativeSize() {
+		assertThrows(IllegalArgumentException.class, () -> ConverterCache.setMaximumSize(-1));
+	}
+}
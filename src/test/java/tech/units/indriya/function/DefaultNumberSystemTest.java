@@ -334,4 +334,87 @@ class DefaultNumberSystemTest {
         assertInstanceOf(BigInteger.class, ns.narrow(Math.nextDown(DefaultNumberSystem.MIN_LONG_AS_DOUBLE)));
         assertInstanceOf(BigInteger.class, ns.narrow(Math.nextUp(DefaultNumberSystem.MAX_LONG_AS_DOUBLE)));
     }
+
+    // -- INTEGER/LONG FAST PATH TESTS
+    @Test
+    void addIntegerOrLong() {
+        assertEquals(Long.valueOf(3L), ns.add(1, 2));
+        assertEquals(Long.valueOf(3L), ns.add(1, 2L));
+        assertEquals(Long.valueOf(-1L), ns.add(1L, -2));
+        // zero shortcuts return the other operand unchanged
+        assertInstanceOf(Integer.class, ns.add(0L, 5));
+        assertInstanceOf(Integer.class, ns.add(5, 0L));
+        // overflow widens to BigInteger
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), ns.add(Long.MAX_VALUE, 1));
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE), ns.add(-1L, Long.MIN_VALUE));
+        assertEquals(Long.valueOf((long) Integer.MAX_VALUE + Integer.MAX_VALUE),
+                ns.add(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertEquals(BigInteger.ONE.negate(), ns.subtract(Long.MAX_VALUE, BigInteger.ONE.shiftLeft(63)));
+    }
+
+    @Test
+    void multiplyIntegerOrLong() {
+        assertEquals(Long.valueOf(6L), ns.multiply(2, 3));
+        assertEquals(Long.valueOf(-6L), ns.multiply(2L, -3));
+        assertEquals(0, ns.multiply(0L, 7));
+        assertEquals(Long.valueOf((long) Integer.MAX_VALUE * Integer.MAX_VALUE),
+                ns.multiply(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), ns.multiply(Long.MAX_VALUE, 2));
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE).negate(), ns.multiply(Long.MIN_VALUE, -1));
+    }
+
+    @Test
+    void smallResultsAreCached() {
+        Assertions.assertSame(ns.add(1000, 24), ns.add(1000L, 24L));
+        Assertions.assertSame(ns.multiply(-32, 32), ns.multiply(-32L, 32L));
+        Assertions.assertSame(
+                ns.add(DefaultNumberSystem.SMALL_LONG_CACHE_MAX - 1, 1),
+                ns.add(1, DefaultNumberSystem.SMALL_LONG_CACHE_MAX - 1));
+    }
+
+    // -- NUMBER TYPE DISPATCH TESTS
+    @Test
+    void compareDoubleWithInteger() {
+        assertEquals(0, ns.compare(-0.0, 0));
+        assertEquals(0, ns.compare(3, 3.0));
+        assertEquals(-1, ns.compare(2.5, 3));
+        assertEquals(1, ns.compare(3L, 2.5f));
+        // beyond 2^53 longs are not exactly representable as double
+        final long large = (1L << 53) + 1;
+        assertEquals(1, ns.compare(large, (double) (1L << 53)));
+        assertEquals(-1, ns.compare((double) (1L << 53), large));
+    }
+
+    @Test
+    void integerDoubles() {
+        assertTrue(ns.isInteger(-3.0));
+        assertFalse(ns.isInteger(-3.5));
+        assertFalse(ns.isInteger(0.5f));
+        assertInstanceOf(Integer.class, ns.narrow(-3.0f));
+        assertInstanceOf(Double.class, ns.narrow(1e-300));
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    void subclassesOfSupportedTypes() {
+        final BigInteger bigInteger = new BigInteger("-5") {};
+        assertEquals(-1, ns.signum(bigInteger));
+        assertEquals(BigInteger.valueOf(5), ns.abs(bigInteger));
+        assertEquals(-5, ns.narrow(bigInteger));
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    void unsupportedNumberType() {
+        final Number unsupported = new Number() {
+            @Override public int intValue() { return 1; }
+            @Override public long longValue() { return 1; }
+            @Override public float floatValue() { return 1; }
+            @Override public double doubleValue() { return 1; }
+        };
+        Assertions.assertSame(unsupported, ns.narrow(unsupported));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ns.signum(unsupported));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ns.negate(unsupported));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ns.add(unsupported, 1.5));
+    }
 }
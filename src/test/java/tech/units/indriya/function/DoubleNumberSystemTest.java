@@ -0,0 +1,158 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.units.indriya.unit.Units.GRAM;
+import static tech.units.indriya.unit.Units.KILOGRAM;
+import static tech.units.indriya.unit.Units.METRE;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.spi.NumberSystem;
+
+class DoubleNumberSystemTest {
+
+    private NumberSystem ns;
+    private NumberSystem previous;
+
+    @BeforeEach
+    void setUp() {
+        ns = new DoubleNumberSystem();
+        previous = Calculus.currentNumberSystem();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Calculus.setCurrentNumberSystem(previous);
+    }
+
+    @Test
+    void arithmeticYieldsDoubles() {
+        assertEquals(3.5, ns.add(1, 2.5));
+        assertEquals(-1.5, ns.subtract(1L, 2.5f));
+        assertEquals(6.0, ns.multiply(BigInteger.valueOf(2), 3));
+        assertEquals(0.25, ns.divide(1, 4));
+        assertEquals(0.5, ns.reciprocal(2));
+        assertEquals(-2.0, ns.negate(2));
+        assertEquals(2.0, ns.abs(-2));
+        assertEquals(1.0 / 3, ns.multiply(RationalNumber.of(1, 3), 1));
+        assertEquals(0.1, ns.add(new BigDecimal("0.1"), 0));
+    }
+
+    @Test
+    void power() {
+        assertEquals(8.0, ns.power(2, 3));
+        assertEquals(0.25, ns.power(2, -2));
+        assertEquals(1.0, ns.power(5, 0));
+        assertThrows(ArithmeticException.class, () -> ns.power(0, 0));
+    }
+
+    @Test
+    void divideAndRemainder() {
+        Number[] result = ns.divideAndRemainder(7, 2, false);
+        assertEquals(3.0, result[0]);
+        assertEquals(1.0, result[1]);
+
+        result = ns.divideAndRemainder(-7.5, 2, false);
+        assertEquals(-3.0, result[0]);
+        assertEquals(-1.5, result[1]);
+
+        result = ns.divideAndRemainder(7.5, 2, true);
+        assertEquals(3.0, result[0]);
+        assertEquals(1.0, result[1]);
+
+        assertThrows(ArithmeticException.class, () -> ns.divideAndRemainder(1, 0, false));
+    }
+
+    @Test
+    void narrowYieldsDouble() {
+        assertInstanceOf(Double.class, ns.narrow(1));
+        assertInstanceOf(Double.class, ns.narrow(BigInteger.TEN));
+        assertInstanceOf(Double.class, ns.narrow(RationalNumber.of(1, 2)));
+        assertEquals(0.5, ns.narrow(RationalNumber.of(1, 2)));
+        assertThrows(IllegalArgumentException.class, () -> ns.narrow(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> ns.narrow(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void comparison() {
+        assertTrue(ns.isZero(-0.0));
+        assertTrue(ns.isOne(1));
+        assertTrue(ns.isLessThanOne(0.999));
+        assertFalse(ns.isLessThanOne(1L));
+        assertTrue(ns.isInteger(3.0));
+        assertFalse(ns.isInteger(3.5));
+        assertEquals(0, ns.compare(0.0, -0.0));
+        assertTrue(ns.compare(1, 1.5) < 0);
+        assertTrue(ns.compare(BigDecimal.TEN, 9) > 0);
+        assertTrue(ns.equals(1, 1.0));
+        assertEquals(1, ns.signum(0.1));
+        assertEquals(-1, ns.signum(-3));
+    }
+
+    @Test
+    void availableByName() {
+        final NumberSystem system = Calculus.getNumberSystem(DoubleNumberSystem.class.getName());
+        assertInstanceOf(DoubleNumberSystem.class, system);
+        assertTrue(Calculus.getAvailableNumberSystems().stream()
+                .anyMatch(DoubleNumberSystem.class::isInstance));
+    }
+
+    @Test
+    void quantityArithmetic() {
+        Calculus.setCurrentNumberSystem(Calculus.getNumberSystem(DoubleNumberSystem.class.getName()));
+        assertInstanceOf(DoubleNumberSystem.class, Calculus.currentNumberSystem());
+
+        final Quantity<Length> length = Quantities.getQuantity(1500, METRE);
+        final Quantity<Length> km = length.to(MetricPrefix.KILO(METRE));
+        assertInstanceOf(Double.class, km.getValue());
+        assertEquals(1.5, km.getValue());
+
+        final Quantity<Length> sum = length.add(Quantities.getQuantity(2, MetricPrefix.KILO(METRE)));
+        assertEquals(3500.0, sum.getValue());
+
+        assertEquals(250.0, Quantities.getQuantity(0.25, KILOGRAM).to(GRAM).getValue().doubleValue(), 1e-12);
+    }
+}
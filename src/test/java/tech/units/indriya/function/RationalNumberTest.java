@@ -30,9 +30,17 @@
 package tech.units.indriya.function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static tech.units.indriya.NumberAssertions.assertNumberEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
 
@@ -100,4 +108,90 @@ public class RationalNumberTest {
     }
     
     
+    @Test
+    public void arithmeticBeyondLongRange() {
+        
+        RationalNumber max = RationalNumber.ofInteger(Long.MAX_VALUE);
+        BigInteger bigMax = BigInteger.valueOf(Long.MAX_VALUE);
+        
+        assertEquals(bigMax.multiply(bigMax), max.multiply(max).getDividend());
+        assertEquals(bigMax.add(bigMax), max.add(max).getDividend());
+        assertEquals(BigInteger.ONE, max.add(max).getDivisor());
+        assertEquals(bigMax.pow(3), max.pow(3).getDividend());
+        assertEquals(RationalNumber.ofInteger(Long.MIN_VALUE), RationalNumber.ofInteger(Long.MIN_VALUE + 1).subtract(RationalNumber.ONE));
+        
+        RationalNumber tiny = RationalNumber.of(1, Long.MAX_VALUE);
+        assertEquals(bigMax.multiply(bigMax), tiny.multiply(tiny).getDivisor());
+        assertEquals(-1, tiny.compareTo(RationalNumber.of(1, Long.MAX_VALUE - 1)));
+        assertEquals(max, tiny.reciprocal());
+        
+    }
+    
+    @Test
+    public void cancelDown() {
+        
+        RationalNumber rational = RationalNumber.of(5280, 1000).multiply(RationalNumber.of(-25, 33));
+        
+        assertEquals(BigInteger.valueOf(-4), rational.getDividend());
+        assertEquals(BigInteger.ONE, rational.getDivisor());
+        assertEquals("-4", rational.toString());
+        assertEquals("-1÷6", RationalNumber.of(1, 2).subtract(RationalNumber.of(2, 3)).toRationalString());
+        
+    }
+    
+    @Test
+    public void hashCodeIndependentOfRepresentation() {
+        
+        assertEquals(Objects.hash(-1, BigInteger.valueOf(5), BigInteger.valueOf(3)), RationalNumber.of(-5, 3).hashCode());
+        assertEquals(Objects.hash(1, BigInteger.ONE, BigInteger.TEN.pow(18)), RationalNumber.of(1, 1000000000000000000L).hashCode());
+        assertEquals(RationalNumber.of(BigInteger.TEN.pow(30), BigInteger.TEN.pow(29)).hashCode(), RationalNumber.ofInteger(10).hashCode());
+        
+    }
+    
+    @Test
+    public void prefixFactorsAreShared() {
+        
+        assertSame(RationalNumber.of(1, 1000), RationalNumber.of(1, 10).pow(3));
+        assertSame(RationalNumber.ofInteger(1000), RationalNumber.of(0.001).reciprocal());
+        assertSame(RationalNumber.ofInteger(1024), RationalNumber.of(2, 1).pow(10));
+        assertSame(RationalNumber.of(1, 1024), RationalNumber.of(3, 3072));
+        assertSame(RationalNumber.ONE, RationalNumber.of(7, 7));
+        
+    }
+    
+    @Test
+    public void serialization() throws IOException, ClassNotFoundException {
+        
+        RationalNumber small = RationalNumber.of(-5, 3);
+        RationalNumber large = RationalNumber.of(BigInteger.TEN.pow(30), BigInteger.valueOf(7));
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(small);
+            out.writeObject(large);
+            out.writeObject(RationalNumber.of(1, 1000));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(small.toRationalString(), ((RationalNumber) in.readObject()).toRationalString());
+            assertEquals(large.toRationalString(), ((RationalNumber) in.readObject()).toRationalString());
+            assertSame(RationalNumber.of(1, 1000), in.readObject());
+        }
+        
+    }
+    
+    @Test
+    public void doubleNumberRepresentationLikeBigDecimal() {
+        
+        final double[] numbers = { 0.1, 0.1 + 0.2, -0.001, 273.15, 0.45359237, 4.4482216152605, 1E-18, 1.5E-19,
+                123456789012345.6, 9007199254740991., 9007199254740993., 1E23, 2E23, Math.PI, 1 / 3., -0., 
+                Double.MIN_VALUE, Double.MAX_VALUE };
+        for (double number : numbers) {
+            RationalNumber expected = RationalNumber.of(BigDecimal.valueOf(number));
+            RationalNumber actual = RationalNumber.of(number);
+            assertEquals(expected.toRationalString(), actual.toRationalString());
+            assertEquals(expected.hashCode(), actual.hashCode());
+        }
+        
+    }
+    
 }
@@ -32,7 +32,9 @@ package tech.units.indriya.function;
 import static javax.measure.MetricPrefix.CENTI;
 import static javax.measure.MetricPrefix.KILO;
 import static javax.measure.MetricPrefix.MICRO;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static tech.units.indriya.NumberAssertions.assertNumberEquals;
 import static tech.units.indriya.unit.Units.CELSIUS;
@@ -40,6 +42,13 @@ import static tech.units.indriya.unit.Units.GRAM;
 import static tech.units.indriya.unit.Units.KELVIN;
 import static tech.units.indriya.unit.Units.KILOGRAM;
 import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.KILOMETRE_PER_HOUR;
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.stream.Stream;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -48,7 +57,10 @@ import javax.measure.quantity.Length;
 import javax.measure.quantity.Temperature;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
+import tech.units.indriya.SerializationRoundTrip;
 import tech.units.indriya.quantity.Quantities;
 
 
@@ -95,4 +107,85 @@ public class UnitConverterTest {
   public void testChainedOps() {
     assertEquals(MICRO(GRAM).getConverterTo(GRAM.divide(1000).divide(1000)), GRAM.divide(1000).divide(1000).getConverterTo(MICRO(GRAM)));
   }
+
+  static Stream<UnitConverter> primitiveConverters() {
+    return Stream.of(
+        MultiplyConverter.ofRational(1, 3),
+        MultiplyConverter.ofRational(Long.MAX_VALUE, 3),
+        MultiplyConverter.ofExponent(10, -3),
+        MultiplyConverter.ofTenExponent(6),
+        MultiplyConverter.ofPiExponent(2),
+        DoubleMultiplyConverter.of(1.5),
+        new AddConverter(273.15),
+        new LogConverter(10),
+        new ExpConverter(10),
+        MICRO(CELSIUS).getConverterTo(KELVIN),
+        KILOMETRE_PER_HOUR.getConverterTo(METRE_PER_SECOND));
+  }
+
+  @ParameterizedTest
+  @MethodSource("primitiveConverters")
+  public void testPrimitiveMatchesNumberConversion(UnitConverter converter) {
+    for (double value : new double[] { 0.1, 1, 2.5, 42, 1E-9, 123.456 }) {
+      double expected = converter.convert((Number) value).doubleValue();
+      assertEquals(expected, converter.convert(value), Math.abs(expected) * 1E-15);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("primitiveConverters")
+  public void testPrimitiveAfterSerialization(UnitConverter converter) throws Exception {
+    UnitConverter afterRoundTrip = SerializationRoundTrip.serializationRoundTrip(converter);
+    assertEquals(converter, afterRoundTrip);
+    assertEquals(converter.convert(2.5), afterRoundTrip.convert(2.5));
+  }
+
+  @ParameterizedTest
+  @MethodSource("primitiveConverters")
+  public void testBulkMatchesPrimitiveConversion(UnitConverter converter) {
+    AbstractConverter abstractConverter = (AbstractConverter) converter;
+    double[] src = { 0.1, 1, 2.5, 42, 1E-9, 123.456 };
+    double[] expected = new double[src.length];
+    for (int i = 0; i < src.length; i++) {
+      expected[i] = converter.convert(src[i]);
+    }
+    double[] dst = new double[src.length];
+    abstractConverter.convert(src, dst);
+    assertArrayEquals(expected, dst);
+
+    double[] offset = new double[src.length + 2];
+    abstractConverter.convert(src, 1, offset, 2, src.length - 1);
+    assertEquals(0, offset[0]);
+    assertEquals(0, offset[1]);
+    assertEquals(expected[1], offset[2]);
+    assertEquals(expected[src.length - 1], offset[src.length]);
+    assertEquals(0, offset[src.length + 1]);
+
+    DoubleBuffer direct = ByteBuffer.allocateDirect(src.length * Double.BYTES).asDoubleBuffer();
+    abstractConverter.convert(DoubleBuffer.wrap(src), direct);
+    assertEquals(0, direct.remaining());
+    direct.flip();
+    double[] fromBuffer = new double[src.length];
+    direct.get(fromBuffer);
+    assertArrayEquals(expected, fromBuffer);
+  }
+
+  @Test
+  public void testBulkInPlace() {
+    AbstractConverter converter = (AbstractConverter) KILO(METRE).getConverterTo(METRE);
+    double[] values = { 1, 2, 3, 4 };
+    converter.convert(values, 0, values, 1, 3);
+    assertArrayEquals(new double[] { 1, 1000, 2000, 3000 }, values);
+    converter.convert(values, values);
+    assertArrayEquals(new double[] { 1000, 1000000, 2000000, 3000000 }, values);
+  }
+
+  @Test
+  public void testBulkOutOfBounds() {
+    AbstractConverter converter = (AbstractConverter) KILO(METRE).getConverterTo(METRE);
+    assertThrows(IndexOutOfBoundsException.class, () -> converter.convert(new double[3], new double[2]));
+    assertThrows(IndexOutOfBoundsException.class, () -> converter.convert(new double[3], 2, new double[3], 0, 2));
+    assertThrows(BufferOverflowException.class,
+        () -> converter.convert(DoubleBuffer.allocate(3), DoubleBuffer.allocate(2)));
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.format.TokenException;
+import tech.units.indriya.format.TokenMgrError;
+
+/**
+ * Checks that parsing over a {@link CharSequence} yields the same results as parsing through a {@link java.io.Reader}.
+ */
+public class UnitFormatParserTest {
+
+  private static final SymbolMap SYMBOLS = SymbolMap.of(ResourceBundle.getBundle("tech.units.indriya.format.messages", Locale.ROOT));
+
+  @ParameterizedTest
+  @ValueSource(strings = { "m", "km/h", "kg*m/s^2", "m·s", "(m/s)^2", "log(m)", "m+2", "s/1000", "cm³", "1/m" })
+  public void testSameAsReader(String text) throws TokenException {
+    final Unit<?> expected = new UnitFormatParser(SYMBOLS, new StringReader(text)).parseUnit();
+    assertEquals(expected, UnitFormatParser.parse(SYMBOLS, text, 0, text.length()));
+    final StringBuilder padded = new StringBuilder("xx").append(text).append("yy");
+    assertEquals(expected, UnitFormatParser.parse(SYMBOLS, padded, 2, 2 + text.length()));
+    assertEquals(expected, new UnitFormatParser(SYMBOLS, text, 0, text.length()).parseUnit());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "m/", "m//s", "(m", "m^", "km/h)" })
+  public void testSameErrorAsReader(String text) {
+    final TokenException expected = assertThrows(TokenException.class,
+        () -> new UnitFormatParser(SYMBOLS, new StringReader(text)).parseUnit());
+    final TokenException actual = assertThrows(TokenException.class, () -> UnitFormatParser.parse(SYMBOLS, text, 0, text.length()));
+    assertEquals(expected.currentToken.kind, actual.currentToken.kind);
+    assertEquals(expected.currentToken.image, actual.currentToken.image);
+    assertEquals(expected.currentToken.beginColumn, actual.currentToken.beginColumn);
+    assertEquals(expected.currentToken.endColumn, actual.currentToken.endColumn);
+    assertEquals(expected.getMessage(), actual.getMessage());
+  }
+
+  @Test
+  public void testSameLexicalErrorAsReader() {
+    final String text = "m\t/\n$";
+    final TokenMgrError expected = assertThrows(TokenMgrError.class,
+        () -> new UnitFormatParser(SYMBOLS, new StringReader(text)).parseUnit());
+    final TokenMgrError actual = assertThrows(TokenMgrError.class, () -> UnitFormatParser.parse(SYMBOLS, text, 0, text.length()));
+    assertEquals(expected.getMessage(), actual.getMessage());
+  }
+
+  @Test
+  public void testLongInput() throws TokenException {
+    final StringBuilder text = new StringBuilder("m");
+    for (int i = 0; i < 100; i++) {
+      text.append("*s/m");
+    }
+    final Unit<?> expected = new UnitFormatParser(SYMBOLS, new StringReader(text.toString())).parseUnit();
+    assertEquals(expected, UnitFormatParser.parse(SYMBOLS, text, 0, text.length()));
+    assertThrows(TokenException.class, () -> UnitFormatParser.parse(SYMBOLS, text.append('/'), 0, text.length()));
+  }
+
+  @Test
+  public void testReusedAfterError() throws TokenException {
+    assertThrows(TokenException.class, () -> UnitFormatParser.parse(SYMBOLS, "m/", 0, 2));
+    final String text = "kg/m^3";
+    assertEquals(new UnitFormatParser(SYMBOLS, new StringReader(text)).parseUnit(), UnitFormatParser.parse(SYMBOLS, text, 0, text.length()));
+  }
+}
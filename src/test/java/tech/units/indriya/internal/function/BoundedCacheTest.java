@@ -0,0 +1,152 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundedCacheTest {
+
+	@Test
+	public void testGetAndPut() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+		assertNull(cache.get("a"));
+		assertEquals(Integer.valueOf(1), cache.put("a", 1));
+		assertEquals(Integer.valueOf(1), cache.get("a"));
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>(4);
+		for (int i = 0; i < 4; i++) {
+			cache.put(i, i);
+		}
+		cache.get(0);
+		cache.put(4, 4);
+		assertEquals(3, cache.size());
+		assertEquals(Integer.valueOf(0), cache.get(0));
+		assertNull(cache.get(1));
+		assertNull(cache.get(2));
+		assertEquals(2, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testDisabled() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(0);
+		assertFalse(cache.isEnabled());
+		cache.put("a", 1);
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void testShrinking() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		cache.setMaximumSize(8);
+		assertEquals(6, cache.size());
+		cache.setMaximumSize(0);
+		assertEquals(0, cache.size());
+		assertThrows(IllegalArgumentException.class, () -> cache.setMaximumSize(-1));
+	}
+
+	@Test
+	public void testRemoveOnlySameValue() {
+		BoundedCache<String, String> cache = new BoundedCache<>(4);
+		String value = cache.put("a", new String("value"));
+		assertFalse(cache.remove("a", "value"));
+		assertTrue(cache.remove("a", value));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testResetStatistics() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+		cache.get("a");
+		cache.resetStatistics();
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void testHitsRefreshRecency() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>(4);
+		for (int i = 0; i < 4; i++) {
+			cache.put(i, i);
+		}
+		cache.get(1);
+		cache.get(0);
+		cache.put(4, 4);
+		assertEquals(Integer.valueOf(0), cache.get(0));
+		assertEquals(Integer.valueOf(1), cache.get(1));
+		assertNull(cache.get(2));
+		assertNull(cache.get(3));
+	}
+
+	@Test
+	public void testEvictionWhileAccessed() throws Exception {
+		final BoundedCache<Integer, Integer> cache = new BoundedCache<>(64);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				final int seed = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 200_000; i++) {
+						final Integer key = (i * 31 + seed) % 256;
+						if (cache.get(key) == null) {
+							cache.put(key, key);
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(); // rethrows whatever the eviction threw
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		assertTrue(cache.getEvictionCount() > 0);
+	}
+}
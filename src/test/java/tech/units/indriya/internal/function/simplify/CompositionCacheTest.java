@@ -0,0 +1,114 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function.simplify;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.MultiplyConverter;
+
+public class CompositionCacheTest {
+
+	@BeforeEach
+	public void reset() {
+		CompositionCache.clear();
+		CompositionCache.resetStatistics();
+	}
+
+	@AfterEach
+	public void restore() {
+		CompositionCache.setMaximumSize(CompositionCache.DEFAULT_MAXIMUM_SIZE);
+		CompositionCache.clear();
+	}
+
+	@Test
+	public void testRepeatedCompositionIsCached() {
+		UnitConverter first = new AddConverter(3).concatenate(MultiplyConverter.of(7));
+		assertEquals(1, CompositionCache.getMissCount());
+		assertEquals(0, CompositionCache.getHitCount());
+		UnitConverter second = new AddConverter(3).concatenate(MultiplyConverter.of(7));
+		assertSame(first, second);
+		assertEquals(1, CompositionCache.getHitCount());
+		assertEquals(24d, second.convert(3d), 1e-12);
+	}
+
+	@Test
+	public void testOrderMatters() {
+		UnitConverter addFirst = MultiplyConverter.of(7).concatenate(new AddConverter(3));
+		UnitConverter multiplyFirst = new AddConverter(3).concatenate(MultiplyConverter.of(7));
+		assertNotEquals(addFirst, multiplyFirst);
+		assertEquals(42d, addFirst.convert(3d), 1e-12);
+		assertEquals(24d, multiplyFirst.convert(3d), 1e-12);
+		assertEquals(2, CompositionCache.size());
+	}
+
+	@Test
+	public void testDisabled() {
+		CompositionCache.setMaximumSize(0);
+		assertFalse(CompositionCache.isEnabled());
+		UnitConverter first = new AddConverter(3).concatenate(MultiplyConverter.of(7));
+		UnitConverter second = new AddConverter(3).concatenate(MultiplyConverter.of(7));
+		assertNotSame(first, second);
+		assertEquals(first, second);
+		assertEquals(0, CompositionCache.size());
+		assertEquals(0, CompositionCache.getHitCount());
+		assertEquals(2, CompositionCache.getMissCount());
+	}
+
+	@Test
+	public void testBounded() {
+		CompositionCache.setMaximumSize(8);
+		for (int i = 1; i <= 100; i++) {
+			new AddConverter(i).concatenate(MultiplyConverter.of(7));
+		}
+		assertTrue(CompositionCache.size() <= 8);
+		assertTrue(CompositionCache.getEvictionCount() > 0);
+	}
+
+	@Test
+	public void testClearedOnNumberSystemChange() {
+		new AddConverter(3).concatenate(MultiplyConverter.of(7));
+		assertTrue(CompositionCache.size() > 0);
+		Calculus.setCurrentNumberSystem(Calculus.currentNumberSystem());
+		assertEquals(0, CompositionCache.size());
+	}
+
+	@Test
+	public void testNegativeSize() {
+		assertThrows(IllegalArgumentException.class, () -> CompositionCache.setMaximumSize(-1));
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2026, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.KELVIN;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.quantity.Temperature;
+
+import org.junit.jupiter.api.Test;
+
+public class QuantityRangeIndexTest {
+
+  @SuppressWarnings("unchecked")
+  private static QuantityRange<Temperature> range(Quantity<Temperature> minimum, Quantity<Temperature> maximum) {
+    return QuantityRange.of(minimum, maximum);
+  }
+
+  private final QuantityRange<Temperature> freezing = range(null, Quantities.getQuantity(0, CELSIUS));
+  private final QuantityRange<Temperature> mild = range(Quantities.getQuantity(283.15, KELVIN),
+      Quantities.getQuantity(25, CELSIUS));
+  private final QuantityRange<Temperature> warm = range(Quantities.getQuantity(20000, MetricPrefix.MILLI(CELSIUS)),
+      Quantities.getQuantity(35, CELSIUS));
+  private final QuantityRange<Temperature> hot = range(Quantities.getQuantity(30, CELSIUS), null);
+
+  private final QuantityRangeIndex<Temperature> index = new QuantityRangeIndex<>(
+      Arrays.asList(freezing, mild, warm, hot));
+
+  @Test
+  public void findContaining() {
+    assertEquals(Arrays.asList(freezing), index.findContaining(Quantities.getQuantity(-5, CELSIUS)));
+    assertEquals(Arrays.asList(freezing), index.findContaining(273.15, KELVIN));
+    assertEquals(Arrays.asList(mild), index.findContaining(15, CELSIUS));
+    assertEquals(Arrays.asList(mild, warm), index.findContaining(Quantities.getQuantity(22, CELSIUS)));
+    assertEquals(Arrays.asList(warm, hot), index.findContaining(Quantities.getQuantity(307, KELVIN)));
+    assertEquals(Arrays.asList(hot), index.findContaining(1000, CELSIUS));
+    assertTrue(index.findContaining(5, CELSIUS).isEmpty());
+  }
+
+  @Test
+  public void findOverlapping() {
+    assertEquals(Arrays.asList(freezing, mild), index.findOverlapping(Quantities.getQuantity(-1, CELSIUS),
+        Quantities.getQuantity(11, CELSIUS)));
+    assertEquals(Arrays.asList(mild, warm, hot), index.findOverlapping(Quantities.getQuantity(24, CELSIUS),
+        Quantities.getQuantity(31, CELSIUS)));
+    assertTrue(index.findOverlapping(Quantities.getQuantity(1, CELSIUS), Quantities.getQuantity(9, CELSIUS))
+        .isEmpty());
+  }
+
+  @Test
+  public void addAndRemove() {
+    assertEquals(4, index.size());
+    assertFalse(index.add(range(Quantities.getQuantity(30, CELSIUS), null)));
+    assertTrue(index.remove(warm));
+    assertFalse(index.remove(warm));
+    assertEquals(Arrays.asList(mild), index.findContaining(22, CELSIUS));
+    assertTrue(index.add(warm));
+    assertEquals(Arrays.asList(mild, warm), index.findContaining(22, CELSIUS));
+    assertEquals(4, index.size());
+  }
+
+  @Test
+  public void unboundedRanges() {
+    final QuantityRangeIndex<Temperature> unbounded = new QuantityRangeIndex<>();
+    assertTrue(unbounded.isEmpty());
+    assertTrue(unbounded.findContaining(20, CELSIUS).isEmpty());
+    final QuantityRange<Temperature> all = range(null, null);
+    unbounded.add(all);
+    assertEquals(Arrays.asList(all), unbounded.findContaining(20, CELSIUS));
+    unbounded.add(mild);
+    assertEquals(Arrays.asList(all, mild), unbounded.findContaining(20, CELSIUS));
+  }
+
+  @Test
+  public void matchesContains() {
+    final Random random = new Random(42);
+    final List<QuantityRange<Temperature>> ranges = new ArrayList<>();
+    final QuantityRangeIndex<Temperature> large = new QuantityRangeIndex<>();
+    for (int i = 0; i < 2000; i++) {
+      final int minimum = random.nextInt(1000);
+      final QuantityRange<Temperature> range = range(Quantities.getQuantity(minimum, CELSIUS),
+          Quantities.getQuantity(minimum + random.nextInt(100), CELSIUS));
+      if (large.add(range)) {
+        ranges.add(range);
+      }
+      if (i % 3 == 0) {
+        large.remove(ranges.remove(random.nextInt(ranges.size())));
+      }
+    }
+    assertEquals(ranges.size(), large.size());
+    for (int i = 0; i < 200; i++) {
+      final double value = random.nextInt(1200) - 50.5;
+      final List<QuantityRange<Temperature>> expected = new ArrayList<>();
+      for (QuantityRange<Temperature> range : ranges) {
+        if (range.contains(value, CELSIUS)) {
+          expected.add(range);
+        }
+      }
+      assertEquals(new HashSet<>(expected), new HashSet<>(large.findContaining(value, CELSIUS)));
+    }
+  }
+}
@@ -35,6 +35,9 @@ import static tech.units.indriya.unit.Units.KILOGRAM;
 import static tech.units.indriya.unit.Units.METRE;
 import static javax.measure.Quantity.Scale.*;
 
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
 import javax.measure.MetricPrefix;
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -524,4 +527,59 @@ public class QuantityRangeTest {
   public void quantityRangeIsNotEqualToObjectOfDifferentClass() {
     assertNotEquals(oneToTenKilogram, oneKilogram);
   }
+
+  /**
+   * Verifies that the contains method converts the bounds into the unit of the checked quantity.
+   */
+  @Test
+  public void containsComparesInUnitOfQuantity() {
+    assertTrue(oneToTenKilogram.contains(Quantities.getQuantity(1000, GRAM)));
+    assertTrue(oneToTenKilogram.contains(Quantities.getQuantity(10000d, GRAM)));
+    assertFalse(oneToTenKilogram.contains(Quantities.getQuantity(999.9, GRAM)));
+    assertFalse(oneToTenKilogram.contains(Quantities.getQuantity(10000.1, GRAM)));
+    assertTrue(oneKilogramOrMore.contains(Quantities.getQuantity(1, MetricPrefix.MEGA(GRAM))));
+  }
+
+  /**
+   * Verifies that the contains method for a primitive value checks it in the given unit.
+   */
+  @Test
+  public void containsPrimitiveValue() {
+    assertTrue(oneToTenKilogram.contains(1, KILOGRAM));
+    assertTrue(oneToTenKilogram.contains(10, KILOGRAM));
+    assertFalse(oneToTenKilogram.contains(10.5, KILOGRAM));
+    assertTrue(oneToTenKilogram.contains(2500, GRAM));
+    assertFalse(oneToTenKilogram.contains(0.5, KILOGRAM));
+    assertFalse(oneToTenKilogram.contains(500, GRAM));
+    assertTrue(upToTenKilogram.contains(Double.NEGATIVE_INFINITY, GRAM));
+    assertFalse(oneKilogramOrMore.contains(Double.NaN, GRAM));
+  }
+
+  /**
+   * Verifies that the contains method for primitive values sets a bit for each value within the range.
+   */
+  @Test
+  public void containsPrimitiveValues() {
+    final BitSet out = new BitSet();
+    out.set(0);
+    oneToTenKilogram.contains(new double[] { 500, 1000, 5000, 10000, 20000 }, GRAM, out);
+    final BitSet expected = new BitSet();
+    expected.set(1, 4);
+    assertEquals(expected, out);
+  }
+
+  /**
+   * Verifies that equal but distinct ranges checked concurrently each see their own bounds.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void containsOnEqualRangesInParallel() {
+    final long misses = IntStream.range(0, 20000).parallel().filter(i -> {
+      final QuantityRange<Mass> range = QuantityRange.of(oneKilogram, tenKilogram);
+      final double grams = i;
+      return range.contains(grams, GRAM) != (grams >= 1000 && grams <= 10000)
+          || range.contains(grams / 1000, KILOGRAM) != (grams >= 1000 && grams <= 10000);
+    }).count();
+    assertEquals(0, misses);
+  }
 }
@@ -32,9 +32,15 @@ package tech.units.indriya.unit;
 import static org.junit.jupiter.api.Assertions.*;
 
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 
 import org.junit.jupiter.api.Test;
 
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.DefaultNumberSystem;
+import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.spi.NumberSystem;
+
 public class ProductUnitTest {
 
   private static final ProductUnit<?> KILOGRAM_METRE = (ProductUnit<?>) ProductUnit.ofProduct(Units.KILOGRAM, Units.METRE);
@@ -268,4 +274,59 @@ public class ProductUnitTest {
   public void productUnitDoesNotHaveTheSameHashCodeAsAnotherProductUnitWithADifferentPowerForAUnit() {
     assertNotEquals(KILOGRAM_METRE.hashCode(), KILOGRAM_PER_METRE.hashCode());
   }
+
+  /**
+   * Verifies that equal products keep the order of their units, whatever was created before.
+   */
+  @Test
+  public void equalProductUnitsKeepTheirOrder() {
+    final Unit<?> metreKilogram = Units.METRE.multiply(Units.KILOGRAM);
+    final Unit<?> kilogramMetre = Units.KILOGRAM.multiply(Units.METRE);
+    assertEquals(metreKilogram, kilogramMetre);
+    assertEquals(metreKilogram.hashCode(), kilogramMetre.hashCode());
+    assertEquals("m·kg", metreKilogram.toString());
+    assertEquals("kg·m", kilogramMetre.toString());
+  }
+
+  /**
+   * Verifies that naming a product unit through a system of units does not affect equal products created elsewhere.
+   */
+  @Test
+  public void namingAProductUnitDoesNotAffectOthers() {
+    final Unit<?> metrePerSecond = ProductUnit.ofQuotient(Units.METRE, Units.SECOND);
+    assertNull(metrePerSecond.getName());
+    assertEquals(Units.METRE_PER_SECOND, metrePerSecond);
+    assertNull(Units.METRE.divide(Units.SECOND).getName());
+  }
+
+  /**
+   * Verifies that the system unit, system converter and dimension of a product unit are computed once.
+   */
+  @Test
+  public void systemUnitConverterAndDimensionAreMemoized() {
+    final ProductUnit<?> kilometreSecond = (ProductUnit<?>) ProductUnit.ofProduct(Units.METRE.multiply(1000), Units.SECOND);
+    assertSame(kilometreSecond.getSystemUnit(), kilometreSecond.getSystemUnit());
+    assertSame(kilometreSecond.getSystemConverter(), kilometreSecond.getSystemConverter());
+    assertSame(kilometreSecond.getDimension(), kilometreSecond.getDimension());
+    assertEquals(Units.METRE.multiply(Units.SECOND), kilometreSecond.getSystemUnit());
+    assertEquals(UnitDimension.LENGTH.multiply(UnitDimension.TIME), kilometreSecond.getDimension());
+  }
+
+  @Test
+  public void systemConvertersAreRebuiltWithTheNumberSystem() {
+    final ProductUnit<?> kilometreMinute = (ProductUnit<?>) ProductUnit.ofProduct(Units.METRE.multiply(1000), Units.MINUTE);
+    final TransformedUnit<?> kilometreHour = new TransformedUnit<>(kilometreMinute, MultiplyConverter.of(60));
+    final UnitConverter productConverter = kilometreMinute.getSystemConverter();
+    final UnitConverter transformedConverter = kilometreHour.getSystemConverter();
+    final NumberSystem previous = Calculus.currentNumberSystem();
+    try {
+      Calculus.setCurrentNumberSystem(new DefaultNumberSystem());
+      assertNotSame(productConverter, kilometreMinute.getSystemConverter());
+      assertNotSame(transformedConverter, kilometreHour.getSystemConverter());
+      assertEquals(60000d, kilometreMinute.getSystemConverter().convert(1d));
+      assertEquals(3600000d, kilometreHour.getSystemConverter().convert(1d));
+    } finally {
+      Calculus.setCurrentNumberSystem(previous);
+    }
+  }
 }